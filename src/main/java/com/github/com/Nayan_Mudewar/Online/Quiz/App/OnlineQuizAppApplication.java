@@ -2,11 +2,15 @@ package com.github.com.Nayan_Mudewar.Online.Quiz.App;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 @SpringBootApplication
 public class OnlineQuizAppApplication {
 	public static void main(String[] args) {
-		SpringApplication.run(OnlineQuizAppApplication.class, args);
+		SpringApplication application = new SpringApplication(OnlineQuizAppApplication.class);
+		// Keeps the startup steps for /actuator/startup and the phase summary StartupWarmup logs
+		application.setApplicationStartup(new BufferingApplicationStartup(4096));
+		application.run(args);
 	}
 
 }
@@ -0,0 +1,73 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt at a cost chosen for the current hardware. Any stored hash whose cost differs from the
+ * configured one, lower or higher, reports {@link #upgradeEncoding} so it is re-hashed on the
+ * next successful login.
+ */
+@Slf4j
+public class AdaptiveBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d\\d)\\$");
+
+    private final int cost;
+
+    public AdaptiveBCryptPasswordEncoder(int cost) {
+        super(cost);
+        this.cost = cost;
+    }
+
+    public int getCost() {
+        return cost;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) != cost;
+    }
+
+    /**
+     * Highest cost in {@code [minCost, maxCost]} whose hash time stays within {@code target}.
+     * Each step doubles the work, so this measures upwards and stops at the first cost that
+     * would exceed the target; the best of three runs absorbs JIT warm-up and scheduling noise.
+     */
+    public static int calibrate(Duration target, int minCost, int maxCost) {
+        long targetNanos = target.toNanos();
+        int cost = minCost;
+        long nanos = measure(cost);
+
+        while (cost < maxCost && nanos * 2 <= targetNanos) {
+            cost++;
+            nanos = measure(cost);
+        }
+        log.info("Measured {} ms per BCrypt hash at cost {}", nanos / 1_000_000, cost);
+        if (nanos > targetNanos && cost > minCost) {
+            cost--; // The last step overshot
+        }
+
+        log.info("Calibrated BCrypt cost {} for a {} ms target", cost, target.toMillis());
+        return cost;
+    }
+
+    private static long measure(int cost) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            encoder.encode("calibration-password");
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+}
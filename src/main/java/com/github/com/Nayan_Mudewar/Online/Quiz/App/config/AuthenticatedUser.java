@@ -0,0 +1,15 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.config;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+/**
+ * Request principal built from verified token claims. {@link #getName()} returns the email,
+ * so {@code Authentication.getName()} keeps meaning what it did with {@code UserDetails}.
+ */
+public record AuthenticatedUser(Long id, String email, String displayName) implements AuthenticatedPrincipal {
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
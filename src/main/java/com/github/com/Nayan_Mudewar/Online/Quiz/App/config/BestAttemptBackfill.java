@@ -0,0 +1,38 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.config;
+
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.AttemptRepository;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.BestAttemptRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Populates best_attempts from existing attempts against a database that predates the table.
+ * Called by {@link StartupWarmup} on every start: with background warmup, submits can commit
+ * before it runs, so it fills in missing rows and raises rows an older attempt beats rather than
+ * treating any existing row as done.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BestAttemptBackfill {
+
+    private final BestAttemptRepository bestAttemptRepository;
+    private final AttemptRepository attemptRepository;
+
+    @Transactional
+    public void backfillIfNeeded() {
+        if (attemptRepository.count() == 0) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        int inserted = bestAttemptRepository.backfillFromAttempts();
+        int raised = bestAttemptRepository.repairFromAttempts();
+        if (inserted > 0 || raised > 0) {
+            log.info("Backfilled {} and raised {} best attempts in {} ms",
+                    inserted, raised, System.currentTimeMillis() - start);
+        }
+    }
+}
@@ -6,7 +6,6 @@ import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Quiz;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.QuestionRepository;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.QuizRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
 import java.util.Arrays;
@@ -14,14 +13,14 @@ import java.util.List;
 
 @Component
 @RequiredArgsConstructor
-public class DataLoader implements CommandLineRunner {
+public class DataLoader {
 
     private final QuizRepository quizRepository;
     private final QuestionRepository questionRepository;
     private final ObjectMapper objectMapper;
 
-    @Override
-    public void run(String... args) throws Exception {
+    // Called by StartupWarmup, inline or in the background
+    public void loadIfEmpty() throws Exception {
         if (quizRepository.count() == 0) {
             loadSampleData();
         }
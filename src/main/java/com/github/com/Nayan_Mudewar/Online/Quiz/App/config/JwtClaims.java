@@ -0,0 +1,15 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.config;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * The verified contents of a JWT. Only produced after the signature and expiry have been checked.
+ * The user claims are enough to authenticate a request without loading the user.
+ */
+public record JwtClaims(String subject, Long userId, String name, List<String> authorities, Instant expiresAt) {
+
+    public boolean isExpired() {
+        return !expiresAt.isAfter(Instant.now());
+    }
+}
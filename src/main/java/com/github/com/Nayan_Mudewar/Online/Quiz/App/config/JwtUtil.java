@@ -1,58 +1,132 @@
 package com.github.com.Nayan_Mudewar.Online.Quiz.App.config;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
 
 @Component
 public class JwtUtil {
 
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String NAME_CLAIM = "name";
+    private static final String AUTHORITIES_CLAIM = "authorities";
+
     @Value("${jwt.secret}")
     private String secret;
 
     @Value("${jwt.expiration}")
     private Long expiration;
 
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes());
-    }
+    // Verified tokens kept in memory; 0 disables the cache
+    @Value("${jwt.cache.max-size:10000}")
+    private long cacheMaxSize;
 
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
-    }
+    private Key signingKey;
+    private JwtParser parser;
+    private Cache<String, JwtClaims> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes());
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+
+        if (cacheMaxSize > 0) {
+            verifiedTokens = Caffeine.newBuilder()
+                    .maximumSize(cacheMaxSize)
+                    .expireAfter(new Expiry<String, JwtClaims>() {
+                        @Override
+                        public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+                            return Math.max(0, Duration.between(Instant.now(), claims.expiresAt()).toNanos());
+                        }
+
+                        @Override
+                        public long expireAfterUpdate(String key, JwtClaims claims, long currentTime, long currentDuration) {
+                            return currentDuration;
+                        }
 
-    public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+                        @Override
+                        public long expireAfterRead(String key, JwtClaims claims, long currentTime, long currentDuration) {
+                            return currentDuration;
+                        }
+                    })
+                    .build();
+        }
     }
 
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    /**
+     * Parses and verifies the token once, or returns the claims of an identical token verified
+     * earlier. Cache entries are keyed by a SHA-256 digest and never outlive the token's expiry.
+     *
+     * @throws JwtException if the token is malformed, badly signed or expired
+     */
+    public JwtClaims verify(String token) {
+        if (verifiedTokens == null) {
+            return parse(token);
+        }
+
+        String key = digest(token);
+        JwtClaims claims = verifiedTokens.getIfPresent(key);
+        if (claims == null) {
+            claims = parse(token);
+            verifiedTokens.put(key, claims);
+        }
+        return claims;
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    private JwtClaims parse(String token) {
+        Claims claims = extractAllClaims(token);
+        List<?> authorities = claims.get(AUTHORITIES_CLAIM, List.class);
+
+        return new JwtClaims(
+                claims.getSubject(),
+                claims.get(USER_ID_CLAIM, Long.class),
+                claims.get(NAME_CLAIM, String.class),
+                authorities == null ? List.of() : authorities.stream().map(String::valueOf).toList(),
+                claims.getExpiration().toInstant());
     }
 
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 
-    public String generateToken(UserDetails userDetails) {
+    // The token carries everything needed to authenticate a request without a user lookup
+    public String generateToken(User user, Collection<? extends GrantedAuthority> authorities) {
         Map<String, Object> claims = new HashMap<>();
-        return createToken(claims, userDetails.getUsername());
+        claims.put(USER_ID_CLAIM, user.getId());
+        claims.put(NAME_CLAIM, user.getName());
+        claims.put(AUTHORITIES_CLAIM, authorities.stream().map(GrantedAuthority::getAuthority).toList());
+        return createToken(claims, user.getEmail());
     }
 
     private String createToken(Map<String, Object> claims, String subject) {
@@ -61,12 +135,7 @@ public class JwtUtil {
                 .setSubject(subject)
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
-
-    public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
-    }
 }
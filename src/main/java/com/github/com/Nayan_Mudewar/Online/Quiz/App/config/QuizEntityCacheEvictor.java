@@ -0,0 +1,33 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.config;
+
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Question;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Quiz;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.event.QuizContentChangedEvent;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Drops a quiz's second-level cache entries once a change to it has committed. Hibernate keeps
+ * the regions current for writes it makes itself; this covers writes made with plain JDBC.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuizEntityCacheEvictor {
+
+    static final String QUESTIONS_ROLE = Quiz.class.getName() + ".questions";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuizContentChanged(QuizContentChangedEvent event) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictEntityData(Quiz.class, event.quizId());
+        cache.evictCollectionData(QUESTIONS_ROLE, event.quizId());
+        // The event carries no question ids; edits are rare enough to drop the whole region
+        cache.evictEntityData(Question.class);
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.event.AttemptRecordedEvent;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Users who committed a write within the last {@code window}. Their read-only transactions stay
+ * on the primary until the window passes, so a submit is visible in their own history and
+ * leaderboard even while the replica lags.
+ */
+public class ReadYourWritesWindow {
+
+    private static final long MAX_TRACKED_USERS = 100_000;
+
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReadYourWritesWindow(Duration window) {
+        this(window, Ticker.systemTicker());
+    }
+
+    ReadYourWritesWindow(Duration window, Ticker ticker) {
+        recentWriters = window.isZero() || window.isNegative()
+                ? null
+                : Caffeine.newBuilder()
+                        .maximumSize(MAX_TRACKED_USERS)
+                        .expireAfterWrite(window)
+                        .ticker(ticker)
+                        .build();
+    }
+
+    public void recordWrite(Long userId) {
+        if (recentWriters != null && userId != null) {
+            recentWriters.put(userId, Boolean.TRUE);
+        }
+    }
+
+    // Write-behind submits commit on the writer thread, so this keys on the event, not the thread
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAttemptRecorded(AttemptRecordedEvent event) {
+        recordWrite(event.userId());
+    }
+
+    // Whether the current request's user wrote recently; anonymous requests never are
+    public boolean isCurrentUserSticky() {
+        if (recentWriters == null) {
+            return false;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null
+                && authentication.getPrincipal() instanceof AuthenticatedUser user
+                && recentWriters.getIfPresent(user.id()) != null;
+    }
+}
@@ -0,0 +1,73 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hibernate second-level cache for quizzes and questions, backed by bounded Caffeine caches
+ * through JCache. Regions are created here rather than on demand, so each one has a size bound,
+ * a time-to-live and hit/miss metrics ({@code cache.gets} tagged with the region).
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    // The regions named in the @Cache annotations on Quiz, Quiz.questions and Question
+    static final List<String> REGIONS = List.of("quiz", "quiz-questions", "question");
+
+    // Region prefix per application context; contexts in one JVM share the JCache provider
+    private static final AtomicInteger CONTEXTS = new AtomicInteger();
+
+    @Bean(destroyMethod = "") // Hibernate closes it with the session factory
+    public CacheManager hibernateCacheManager() {
+        CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        return provider.getCacheManager();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCache(
+            CacheManager hibernateCacheManager,
+            MeterRegistry meterRegistry,
+            @Value("${quiz.cache.entities.max-size:10000}") long maxSize,
+            @Value("${quiz.cache.entities.ttl-minutes:60}") long ttlMinutes) {
+        String prefix = "hibernate-" + CONTEXTS.incrementAndGet();
+        for (String region : REGIONS) {
+            Cache<Object, Object> cache = hibernateCacheManager.createCache(prefix + "." + region, regionConfiguration(maxSize, ttlMinutes));
+            JCacheMetrics.monitor(meterRegistry, cache, Tags.of("region", region));
+        }
+
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(AvailableSettings.CACHE_REGION_PREFIX, prefix);
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            // A region without a bound is a bug, not something to paper over
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> regionConfiguration(long maxSize, long ttlMinutes) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maxSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(Duration.ofMinutes(ttlMinutes).toNanos()));
+        configuration.setStatisticsEnabled(true);
+        return configuration;
+    }
+}
@@ -0,0 +1,143 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.config;
+
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuizCatalogPage;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuizSummary;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.service.LeaderboardEngine;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.service.QuestionBankCache;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.service.QuizCatalog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Startup work that needs the database: sample data, the best_attempts backfill, the in-memory
+ * leaderboards and, with {@code quiz.startup.warm-caches}, the quiz catalog and every question bank.
+ * <p>
+ * By default it runs inline once the application has started, where the runners it replaces ran.
+ * With {@code quiz.startup.background=true} it runs on its own thread: the server accepts
+ * connections at once, but this indicator keeps the readiness health group OUT_OF_SERVICE until the
+ * work is done, so a load balancer only routes to the node once it is warm. Each phase is recorded
+ * as a {@code quiz.warmup.*} startup step and logged with its duration.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupWarmup implements HealthIndicator {
+
+    private final DataLoader dataLoader;
+    private final BestAttemptBackfill bestAttemptBackfill;
+    private final LeaderboardEngine leaderboardEngine;
+    private final QuizCatalog quizCatalog;
+    private final QuestionBankCache questionBankCache;
+    private final ApplicationStartup applicationStartup;
+
+    @Value("${quiz.startup.background:false}")
+    private boolean background;
+
+    @Value("${quiz.startup.warm-caches:false}")
+    private boolean warmCaches;
+
+    private volatile String phase = "pending";
+    private volatile boolean warm;
+    private volatile Exception failure;
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void onStarted() throws Exception {
+        if (!background) {
+            warmUp();
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                warmUp();
+            } catch (Exception e) {
+                failure = e;
+                log.error("Startup warmup failed in phase {}; the node stays out of service", phase, e);
+            }
+        }, "startup-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        StringJoiner phases = new StringJoiner(", ");
+        // Top-level steps only: application starting, environment, context refresh and so on
+        if (applicationStartup instanceof BufferingApplicationStartup buffering) {
+            buffering.getBufferedTimeline().getEvents().stream()
+                    .filter(timelineEvent -> timelineEvent.getStartupStep().getParentId() == null)
+                    .forEach(timelineEvent -> phases.add(timelineEvent.getStartupStep().getName()
+                            + "=" + timelineEvent.getDuration().toMillis() + " ms"));
+        }
+        log.info("Started in {} ms ({}), warm: {}", event.getTimeTaken().toMillis(), phases, warm);
+    }
+
+    @Override
+    public Health health() {
+        if (warm) {
+            return Health.up().build();
+        }
+        if (failure != null) {
+            return Health.down(failure).withDetail("phase", phase).build();
+        }
+        return Health.outOfService().withDetail("phase", phase).build();
+    }
+
+    void warmUp() throws Exception {
+        Map<String, Long> timings = new LinkedHashMap<>();
+        long start = System.nanoTime();
+
+        run("seed", dataLoader::loadIfEmpty, timings);
+        run("backfill", bestAttemptBackfill::backfillIfNeeded, timings);
+        run("leaderboards", leaderboardEngine::rebuild, timings);
+        if (warmCaches) {
+            run("question-banks", this::warmQuestionBanks, timings);
+        }
+
+        phase = "done";
+        warm = true;
+        log.info("Startup warmup finished in {} ms (ms per phase: {})", (System.nanoTime() - start) / 1_000_000, timings);
+    }
+
+    // Loads the catalog on the first page, then renders every quiz's bank and start payload
+    private void warmQuestionBanks() {
+        int page = 0;
+        QuizCatalogPage quizzes;
+        do {
+            quizzes = quizCatalog.getPage(null, page++, 100);
+            for (QuizSummary quiz : quizzes.getQuizzes()) {
+                questionBankCache.getBank(quiz.getId());
+            }
+        } while (!quizzes.getQuizzes().isEmpty());
+    }
+
+    private void run(String name, Phase work, Map<String, Long> timings) throws Exception {
+        phase = name;
+        StartupStep step = applicationStartup.start("quiz.warmup." + name);
+        long start = System.nanoTime();
+        try {
+            work.run();
+        } finally {
+            step.end();
+            timings.put(name, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Phase {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,41 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.controller;
+
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuestionImportReport;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.service.QuestionImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private static final String TEXT_CSV_VALUE = "text/csv";
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType(TEXT_CSV_VALUE);
+
+    private final QuestionImportService questionImportService;
+
+    // The body is read as a stream, never buffered whole; format follows the Content-Type
+    @PostMapping(path = "/quizzes/{id}/questions/import",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, "application/jsonl", TEXT_CSV_VALUE})
+    public ResponseEntity<QuestionImportReport> importQuestions(
+            @PathVariable Long id,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) throws IOException {
+        QuestionImportService.Format format = MediaType.parseMediaType(contentType).isCompatibleWith(TEXT_CSV)
+                ? QuestionImportService.Format.CSV
+                : QuestionImportService.Format.JSONL;
+        QuestionImportReport report = questionImportService.importQuestions(id, body, format);
+        return ResponseEntity.ok(report);
+    }
+}
@@ -0,0 +1,12 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.controller;
+
+import org.springframework.http.CacheControl;
+
+final class CachePolicies {
+
+    // Clients may keep a copy but must revalidate it with If-None-Match
+    static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private CachePolicies() {
+    }
+}
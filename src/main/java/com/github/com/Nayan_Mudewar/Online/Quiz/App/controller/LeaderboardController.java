@@ -2,9 +2,15 @@ package com.github.com.Nayan_Mudewar.Online.Quiz.App.controller;
 
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.LeaderboardResponse;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.service.LeaderboardService;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.service.LeaderboardStream;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.service.ResourceVersions;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/quizzes")
@@ -12,12 +18,39 @@ import org.springframework.web.bind.annotation.*;
 public class LeaderboardController {
 
     private final LeaderboardService leaderboardService;
+    private final ResourceVersions resourceVersions;
+    private final LeaderboardStream leaderboardStream;
 
     @GetMapping("/{id}/leaderboard")
     public ResponseEntity<LeaderboardResponse> getLeaderboard(
             @PathVariable Long id,
-            @RequestParam(required = false, defaultValue = "10") Integer limit) {
-        LeaderboardResponse response = leaderboardService.getLeaderboard(id, limit);
-        return ResponseEntity.ok(response);
+            @RequestParam(required = false, defaultValue = "10") Integer limit,
+            @RequestParam(required = false, defaultValue = "0") Integer offset,
+            @RequestParam(required = false) Long around,
+            @RequestParam(required = false, defaultValue = "5") Integer radius,
+            WebRequest request) {
+        // Unchanged since the client's copy: 304 before any query or serialization
+        String etag = resourceVersions.leaderboardETag(id);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CachePolicies.REVALIDATE).build();
+        }
+
+        LeaderboardResponse response = around != null
+                ? leaderboardService.getLeaderboardAround(id, around, radius)
+                : leaderboardService.getLeaderboard(id, offset, limit);
+        return ResponseEntity.ok().eTag(etag).cacheControl(CachePolicies.REVALIDATE).body(response);
+    }
+
+    // Not ETag-cached: the same URL answers differently per user
+    @GetMapping("/{id}/leaderboard/me")
+    public ResponseEntity<LeaderboardResponse> getMyLeaderboard(
+            @PathVariable Long id,
+            @RequestParam(required = false, defaultValue = "0") Integer radius) {
+        return ResponseEntity.ok(leaderboardService.getMyLeaderboard(id, radius));
+    }
+
+    @GetMapping(path = "/{id}/leaderboard/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLeaderboard(@PathVariable Long id) {
+        return leaderboardStream.subscribe(id);
     }
 }
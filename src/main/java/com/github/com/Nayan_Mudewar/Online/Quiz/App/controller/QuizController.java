@@ -1,17 +1,25 @@
 package com.github.com.Nayan_Mudewar.Online.Quiz.App.controller;
 
-import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuizStartResponse;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuizCatalogPage;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuizSubmitRequest;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuizSubmitResponse;
-import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Quiz;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuizSummary;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.service.AttemptService;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.service.QuizService;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.service.ResourceVersions;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.service.StartPayload;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
 
 @RestController
 @RequestMapping("/quizzes")
@@ -19,28 +27,76 @@ import java.util.List;
 public class QuizController {
     private final QuizService quizService;
     private final AttemptService attemptService;
+    private final ResourceVersions resourceVersions;
 
     @GetMapping
-    public ResponseEntity<List<Quiz>> getAllQuizzes() {
-        List<Quiz> quizzes = quizService.getAllQuizzes();
-        return ResponseEntity.ok(quizzes);
+    public ResponseEntity<QuizCatalogPage> getAllQuizzes(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false, defaultValue = "0") Integer page,
+            @RequestParam(required = false, defaultValue = "20") Integer size,
+            WebRequest request) {
+        String etag = resourceVersions.catalogETag();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CachePolicies.REVALIDATE).build();
+        }
+
+        QuizCatalogPage quizzes = quizService.getAllQuizzes(category, page, size);
+        return ResponseEntity.ok().eTag(etag).cacheControl(CachePolicies.REVALIDATE).body(quizzes);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Quiz> getQuizById(@PathVariable Long id) {
-        Quiz quiz = quizService.getQuizById(id);
-        return ResponseEntity.ok(quiz);
+    public ResponseEntity<QuizSummary> getQuizById(@PathVariable Long id, WebRequest request) {
+        String etag = resourceVersions.catalogETag();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CachePolicies.REVALIDATE).build();
+        }
+
+        QuizSummary quiz = quizService.getQuizById(id);
+        return ResponseEntity.ok().eTag(etag).cacheControl(CachePolicies.REVALIDATE).body(quiz);
     }
 
+    // Same JSON as QuizStartResponse, written from pre-rendered (and pre-compressed) fragments
     @GetMapping("/{id}/start")
-    public ResponseEntity<QuizStartResponse> startQuiz(@PathVariable Long id) {
-        QuizStartResponse response = quizService.startQuiz(id);
-        return ResponseEntity.ok(response);
+    public void startQuiz(@PathVariable Long id,
+                          @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                          HttpServletResponse response) throws IOException {
+        StartPayload.Selection payload = quizService.startQuizPayload(id);
+
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        OutputStream out = response.getOutputStream();
+        // Fragments are deflated independently, so small responses can come out larger gzipped
+        if (acceptsGzip(acceptEncoding) && payload.gzipLength() < payload.jsonLength()) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            response.setContentLength(payload.gzipLength());
+            payload.writeGzip(out);
+        } else {
+            response.setContentLength(payload.jsonLength());
+            payload.writeJson(out);
+        }
+        out.flush();
     }
 
     @PostMapping("/submit")
     public ResponseEntity<QuizSubmitResponse> submitQuiz(@Valid @RequestBody QuizSubmitRequest request) {
         QuizSubmitResponse response = attemptService.submitQuiz(request);
+        if (response.getStatus() == QuizSubmitResponse.Status.PENDING) {
+            return ResponseEntity.accepted().body(response);
+        }
         return ResponseEntity.ok(response);
     }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                // "gzip;q=0" explicitly refuses it
+                return parts.length < 2 || !parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,18 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttemptHistoryPage {
+    private List<AttemptHistoryResponse> attempts;
+    private String nextCursor; // null on the last page
+    private Boolean hasMore;
+}
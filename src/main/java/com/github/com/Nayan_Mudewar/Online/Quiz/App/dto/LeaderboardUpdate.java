@@ -0,0 +1,20 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeaderboardUpdate {
+    private Long quizId;
+    private Long sequence; // Diffs apply on top of the snapshot or diff with the previous sequence
+    private Integer totalAttempts;
+    private List<LeaderboardEntry> entries; // Snapshot: the whole top N; diff: entries new or changed
+    private List<Long> removedUserIds; // Diff only: users who dropped out of the top N
+}
@@ -0,0 +1,15 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuestionImportError {
+    private Integer line; // Line of the file the rejected row starts on
+    private String message;
+}
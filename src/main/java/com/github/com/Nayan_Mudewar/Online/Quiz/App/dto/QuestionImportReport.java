@@ -0,0 +1,23 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuestionImportReport {
+    private Long quizId;
+    private Integer rowsRead;
+    private Integer imported;
+    private Integer rejected;
+    private Integer batches;
+    private Long durationMs;
+    private List<QuestionImportError> errors; // The first rejected rows, up to quiz.import.max-reported-errors
+    private Boolean errorsTruncated;
+}
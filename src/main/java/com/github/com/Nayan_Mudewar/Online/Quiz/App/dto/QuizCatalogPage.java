@@ -0,0 +1,19 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizCatalogPage {
+    private List<QuizSummary> quizzes;
+    private Integer page;
+    private Integer size;
+    private Integer totalQuizzes; // After the category filter
+}
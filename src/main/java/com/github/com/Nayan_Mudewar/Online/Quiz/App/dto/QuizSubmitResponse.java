@@ -13,6 +13,10 @@ import java.util.List;
 @AllArgsConstructor
 @Builder
 public class QuizSubmitResponse {
+    // PENDING: graded and queued, but not yet confirmed saved, so there is no attemptId yet
+    public enum Status { SAVED, PENDING }
+
+    private Status status;
     private Long attemptId;
     private Long quizId;
     private String quizTitle;
@@ -0,0 +1,18 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class QuizSummary {
+    private Long id;
+    private String title;
+    private String category;
+    private Integer questionCount;
+    private Long attemptCount;
+}
@@ -5,7 +5,9 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "attempts")
+@Table(name = "attempts", indexes = {
+        @Index(name = "idx_attempts_user_history", columnList = "user_id, completed_at DESC, id DESC")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
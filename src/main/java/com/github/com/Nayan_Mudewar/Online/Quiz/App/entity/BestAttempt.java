@@ -0,0 +1,54 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of {@link Attempt}: each user's best attempt per quiz (highest score, earliest
+ * completion among equal scores). Maintained on submit in the same transaction as the attempt.
+ */
+@Entity
+@Table(name = "best_attempts", indexes = {
+        @Index(name = "idx_best_attempts_rank", columnList = "quiz_id, score DESC, completed_at ASC, user_id ASC")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BestAttempt implements Persistable<BestAttemptId> {
+
+    @EmbeddedId
+    private BestAttemptId id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", insertable = false, updatable = false)
+    private User user;
+
+    @Column(nullable = false)
+    private Integer score;
+
+    @Column(nullable = false)
+    private LocalDateTime completedAt;
+
+    @Column(nullable = false)
+    private Long attemptId;
+
+    // Lets save() persist a fresh row without the extra SELECT that merge() does for assigned ids
+    @Transient
+    @Builder.Default
+    private boolean newEntry = true;
+
+    @Override
+    public boolean isNew() {
+        return newEntry;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        newEntry = false;
+    }
+}
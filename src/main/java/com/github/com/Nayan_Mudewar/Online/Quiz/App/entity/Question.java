@@ -2,8 +2,13 @@ package com.github.com.Nayan_Mudewar.Online.Quiz.App.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "question")
+@EntityListeners(QuizContentListener.class)
 @Table(name = "questions")
 @Data
 @NoArgsConstructor
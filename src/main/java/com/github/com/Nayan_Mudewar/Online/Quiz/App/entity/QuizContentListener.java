@@ -0,0 +1,36 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.entity;
+
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.event.QuizContentChangedEvent;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Turns JPA lifecycle callbacks on {@link Quiz} and {@link Question} into a
+ * {@link QuizContentChangedEvent}. Instantiated by Hibernate through Spring's bean container.
+ */
+public class QuizContentListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public QuizContentListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Object entity) {
+        Long quizId = null;
+        if (entity instanceof Quiz quiz) {
+            quizId = quiz.getId();
+        } else if (entity instanceof Question question && question.getQuiz() != null) {
+            quizId = question.getQuiz().getId();
+        }
+
+        if (quizId != null) {
+            eventPublisher.publishEvent(new QuizContentChangedEvent(quizId));
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published inside the transaction that stores a graded attempt.
+ */
+public record AttemptRecordedEvent(
+        Long attemptId,
+        Long quizId,
+        Long userId,
+        String userName,
+        String userEmail,
+        Integer score,
+        LocalDateTime completedAt) {
+}
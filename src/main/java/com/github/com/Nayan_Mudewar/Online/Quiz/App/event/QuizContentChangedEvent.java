@@ -0,0 +1,8 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.event;
+
+/**
+ * Published whenever a quiz or one of its questions is created, updated or removed.
+ * Listeners use it to drop any in-memory view of that quiz's content.
+ */
+public record QuizContentChangedEvent(Long quizId) {
+}
@@ -0,0 +1,7 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+     public ServiceUnavailableException(String message){
+         super(message);
+     }
+}
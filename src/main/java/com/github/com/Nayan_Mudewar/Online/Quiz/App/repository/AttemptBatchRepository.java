@@ -0,0 +1,14 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.repository;
+
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Attempt;
+
+import java.util.List;
+
+public interface AttemptBatchRepository {
+
+    /**
+     * Inserts all attempts with a single JDBC batch and sets their generated ids.
+     * Must be called inside a transaction.
+     */
+    void insertAll(List<Attempt> attempts);
+}
@@ -0,0 +1,52 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.repository;
+
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Attempt;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.List;
+
+// Attempt ids are IDENTITY columns, which Hibernate will not batch, so the insert goes through JDBC
+@RequiredArgsConstructor
+public class AttemptBatchRepositoryImpl implements AttemptBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO attempts (user_id, quiz_id, score, completed_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<Attempt> attempts) {
+        if (attempts.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (Attempt attempt : attempts) {
+                    statement.setLong(1, attempt.getUser().getId());
+                    statement.setLong(2, attempt.getQuiz().getId());
+                    statement.setInt(3, attempt.getScore());
+                    statement.setTimestamp(4, Timestamp.valueOf(attempt.getCompletedAt()));
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    for (Attempt attempt : attempts) {
+                        if (!keys.next()) {
+                            throw new IllegalStateException("Missing generated id for batched attempt");
+                        }
+                        attempt.setId(keys.getLong("id"));
+                    }
+                }
+            }
+            return null;
+        });
+    }
+}
@@ -1,31 +1,40 @@
 package com.github.com.Nayan_Mudewar.Online.Quiz.App.repository;
 
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Attempt;
-import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Quiz;
-import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.User;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.projection.AttemptHistoryRow;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface AttemptRepository extends JpaRepository<Attempt, Long> {
-    List<Attempt> findByUserIdOrderByCompletedAtDesc(Long userId);
-    @Query(value = """
-        SELECT a.* FROM attempts a
-        INNER JOIN (
-            SELECT user_id, MAX(score) as max_score, MIN(completed_at) as earliest_time
-            FROM attempts
-            WHERE quiz_id = :quizId
-            GROUP BY user_id
-        ) best ON a.user_id = best.user_id 
-                AND a.score = best.max_score 
-                AND a.completed_at = best.earliest_time
-        WHERE a.quiz_id = :quizId
-        ORDER BY a.score DESC, a.completed_at ASC
-        """, nativeQuery = true)
-    List<Attempt> findBestAttemptPerUserByQuizId(@Param("quizId") Long quizId);
-}
+public interface AttemptRepository extends JpaRepository<Attempt, Long>, AttemptBatchRepository {
+
+    // Newest first; the page size comes from the Pageable (no count query for a List result)
+    @Query("""
+        SELECT new com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.projection.AttemptHistoryRow(
+            a.id, q.id, q.title, q.category, a.score, a.completedAt)
+        FROM Attempt a JOIN a.quiz q
+        WHERE a.user.id = :userId
+        ORDER BY a.completedAt DESC, a.id DESC
+        """)
+    List<AttemptHistoryRow> findHistory(@Param("userId") Long userId, Pageable pageable);
 
+    // Keyset continuation strictly after the (completedAt, id) of the last row already returned
+    @Query("""
+        SELECT new com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.projection.AttemptHistoryRow(
+            a.id, q.id, q.title, q.category, a.score, a.completedAt)
+        FROM Attempt a JOIN a.quiz q
+        WHERE a.user.id = :userId
+          AND (a.completedAt < :completedAt OR (a.completedAt = :completedAt AND a.id < :id))
+        ORDER BY a.completedAt DESC, a.id DESC
+        """)
+    List<AttemptHistoryRow> findHistoryAfter(@Param("userId") Long userId,
+                                             @Param("completedAt") LocalDateTime completedAt,
+                                             @Param("id") Long id,
+                                             Pageable pageable);
+}
@@ -0,0 +1,77 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.repository;
+
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.BestAttempt;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.BestAttemptId;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.projection.LeaderboardRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface BestAttemptRepository extends JpaRepository<BestAttempt, BestAttemptId>, LeaderboardQueryRepository {
+
+    long countByIdQuizId(Long quizId);
+
+    // Users ranked strictly above a score; gives the tie-aware rank of a page's first row
+    long countByIdQuizIdAndScoreGreaterThan(Long quizId, Integer score);
+
+    @Query("""
+        SELECT new com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.projection.LeaderboardRow(
+            u.id, u.name, u.email, b.attemptId, b.score, b.completedAt)
+        FROM BestAttempt b JOIN b.user u
+        WHERE b.id.quizId = :quizId
+        """)
+    List<LeaderboardRow> findLeaderboardRowsByQuizId(@Param("quizId") Long quizId);
+
+    // Conditional so a better score committed concurrently is never overwritten by a lower one
+    @Modifying
+    @Query("""
+        UPDATE BestAttempt b
+        SET b.score = :score, b.completedAt = :completedAt, b.attemptId = :attemptId
+        WHERE b.id.quizId = :quizId AND b.id.userId = :userId AND b.score < :score
+        """)
+    int improve(@Param("quizId") Long quizId,
+                @Param("userId") Long userId,
+                @Param("score") Integer score,
+                @Param("completedAt") LocalDateTime completedAt,
+                @Param("attemptId") Long attemptId);
+
+    // One-shot backfill from the raw attempts table; skips pairs that already have a row
+    @Modifying
+    @Query(value = """
+        INSERT INTO best_attempts (quiz_id, user_id, score, completed_at, attempt_id)
+        SELECT ranked.quiz_id, ranked.user_id, ranked.score, ranked.completed_at, ranked.id
+        FROM (
+            SELECT a.id, a.quiz_id, a.user_id, a.score, a.completed_at,
+                   ROW_NUMBER() OVER (PARTITION BY a.quiz_id, a.user_id
+                                      ORDER BY a.score DESC, a.completed_at ASC, a.id ASC) AS rn
+            FROM attempts a
+        ) ranked
+        WHERE ranked.rn = 1
+          AND NOT EXISTS (
+              SELECT 1 FROM best_attempts b
+              WHERE b.quiz_id = ranked.quiz_id AND b.user_id = ranked.user_id)
+        """, nativeQuery = true)
+    int backfillFromAttempts();
+
+    // Raises rows that an older, better attempt beats, e.g. a submit that committed before the backfill
+    @Modifying
+    @Query(value = """
+        UPDATE best_attempts b
+        SET (score, completed_at, attempt_id) = (
+            SELECT a.score, a.completed_at, a.id
+            FROM attempts a
+            WHERE a.quiz_id = b.quiz_id AND a.user_id = b.user_id
+            ORDER BY a.score DESC, a.completed_at ASC, a.id ASC
+            FETCH FIRST 1 ROW ONLY)
+        WHERE EXISTS (
+            SELECT 1 FROM attempts a
+            WHERE a.quiz_id = b.quiz_id AND a.user_id = b.user_id AND a.score > b.score)
+        """, nativeQuery = true)
+    int repairFromAttempts();
+}
@@ -0,0 +1,31 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.repository;
+
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.projection.LeaderboardRow;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface LeaderboardQueryRepository {
+
+    /**
+     * Ranked best attempts of a quiz with user name and email joined in, skipping {@code offset}
+     * rows and returning at most {@code limit} (all remaining when null). One SQL statement.
+     */
+    List<LeaderboardRow> findLeaderboardPage(Long quizId, int offset, Integer limit);
+
+    Optional<LeaderboardRow> findLeaderboardRow(Long quizId, Long userId);
+
+    /**
+     * Up to {@code radius} rows ranked either side of {@code anchor}, with the anchor in the
+     * middle. Two keyset queries walking the rank index from the anchor, so the cost follows the
+     * radius rather than the anchor's position.
+     */
+    List<LeaderboardRow> findLeaderboardWindow(Long quizId, LeaderboardRow anchor, int radius);
+
+    /**
+     * Rows ranked strictly before the given one (ties broken as on the leaderboard): its 0-based
+     * position. An index-only scan of {@code idx_best_attempts_rank}, but still one entry per
+     * higher-ranked row, so the cost grows with the position; the in-memory engine does not.
+     */
+    long countRankedBefore(Long quizId, LeaderboardRow row);
+}
@@ -0,0 +1,111 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.repository;
+
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.projection.LeaderboardRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+// Spring Data paging only expresses offsets that are a multiple of the page size, so the
+// offset and limit are set on the query directly
+public class LeaderboardQueryRepositoryImpl implements LeaderboardQueryRepository {
+
+    private static final String LEADERBOARD_JPQL = """
+        SELECT new com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.projection.LeaderboardRow(
+            u.id, u.name, u.email, b.attemptId, b.score, b.completedAt)
+        FROM BestAttempt b JOIN b.user u
+        WHERE b.id.quizId = :quizId
+        ORDER BY b.score DESC, b.completedAt ASC, b.id.userId ASC
+        """;
+
+    private static final String ROW_SELECT = """
+        SELECT new com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.projection.LeaderboardRow(
+            u.id, u.name, u.email, b.attemptId, b.score, b.completedAt)
+        FROM BestAttempt b JOIN b.user u
+        WHERE b.id.quizId = :quizId
+        """;
+
+    // Leaderboard order is score DESC, completedAt ASC, userId ASC; "before" means ranked higher
+    private static final String RANKED_BEFORE = """
+        (b.score > :score
+            OR (b.score = :score AND (b.completedAt < :completedAt
+                OR (b.completedAt = :completedAt AND b.id.userId < :userId))))
+        """;
+
+    private static final String RANKED_AFTER = """
+        (b.score < :score
+            OR (b.score = :score AND (b.completedAt > :completedAt
+                OR (b.completedAt = :completedAt AND b.id.userId > :userId))))
+        """;
+
+    private static final String ROW_JPQL = ROW_SELECT + " AND b.id.userId = :userId";
+
+    // Nearest first, so the limit keeps the rows closest to the anchor
+    private static final String ABOVE_JPQL = ROW_SELECT + " AND " + RANKED_BEFORE
+            + " ORDER BY b.score ASC, b.completedAt DESC, b.id.userId DESC";
+
+    private static final String BELOW_JPQL = ROW_SELECT + " AND " + RANKED_AFTER
+            + " ORDER BY b.score DESC, b.completedAt ASC, b.id.userId ASC";
+
+    private static final String COUNT_BEFORE_JPQL =
+            "SELECT COUNT(b) FROM BestAttempt b WHERE b.id.quizId = :quizId AND " + RANKED_BEFORE;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<LeaderboardRow> findLeaderboardPage(Long quizId, int offset, Integer limit) {
+        TypedQuery<LeaderboardRow> query = entityManager.createQuery(LEADERBOARD_JPQL, LeaderboardRow.class)
+                .setParameter("quizId", quizId)
+                .setFirstResult(offset);
+        if (limit != null) {
+            query.setMaxResults(limit);
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    public Optional<LeaderboardRow> findLeaderboardRow(Long quizId, Long userId) {
+        return entityManager.createQuery(ROW_JPQL, LeaderboardRow.class)
+                .setParameter("quizId", quizId)
+                .setParameter("userId", userId)
+                .getResultStream()
+                .findFirst();
+    }
+
+    @Override
+    public List<LeaderboardRow> findLeaderboardWindow(Long quizId, LeaderboardRow anchor, int radius) {
+        if (radius == 0) {
+            return List.of(anchor);
+        }
+        List<LeaderboardRow> rows = new ArrayList<>(neighbours(ABOVE_JPQL, quizId, anchor, radius));
+        Collections.reverse(rows);
+        rows.add(anchor);
+        rows.addAll(neighbours(BELOW_JPQL, quizId, anchor, radius));
+        return rows;
+    }
+
+    @Override
+    public long countRankedBefore(Long quizId, LeaderboardRow row) {
+        return entityManager.createQuery(COUNT_BEFORE_JPQL, Long.class)
+                .setParameter("quizId", quizId)
+                .setParameter("score", row.score())
+                .setParameter("completedAt", row.completedAt())
+                .setParameter("userId", row.userId())
+                .getSingleResult();
+    }
+
+    private List<LeaderboardRow> neighbours(String jpql, Long quizId, LeaderboardRow anchor, int radius) {
+        return entityManager.createQuery(jpql, LeaderboardRow.class)
+                .setParameter("quizId", quizId)
+                .setParameter("score", anchor.score())
+                .setParameter("completedAt", anchor.completedAt())
+                .setParameter("userId", anchor.userId())
+                .setMaxResults(radius)
+                .getResultList();
+    }
+}
@@ -0,0 +1,14 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.repository;
+
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Question;
+
+import java.util.List;
+
+public interface QuestionBatchRepository {
+
+    /**
+     * Inserts all questions with a single JDBC batch; ids are not read back. Bypasses the entity
+     * listeners, so the caller publishes the content change. Must be called inside a transaction.
+     */
+    void insertAll(List<Question> questions);
+}
@@ -0,0 +1,31 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.repository;
+
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Question;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+// Question ids are IDENTITY columns, which Hibernate will not batch, so the insert goes through JDBC
+@RequiredArgsConstructor
+public class QuestionBatchRepositoryImpl implements QuestionBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO questions (quiz_id, question, options, correct_answer) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<Question> questions) {
+        if (questions.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, questions, questions.size(), (statement, question) -> {
+            statement.setLong(1, question.getQuiz().getId());
+            statement.setString(2, question.getQuestion());
+            statement.setString(3, question.getOptions());
+            statement.setString(4, question.getCorrectAnswer());
+        });
+    }
+}
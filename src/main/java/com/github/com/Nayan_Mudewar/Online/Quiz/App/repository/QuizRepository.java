@@ -1,11 +1,24 @@
 package com.github.com.Nayan_Mudewar.Online.Quiz.App.repository;
 
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Quiz;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.projection.QuizSummaryRow;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface QuizRepository extends JpaRepository<Quiz, Long> {
-}
-
 
+    // Counts come from the foreign-key indexes; no question or attempt rows are loaded
+    @Query("""
+        SELECT new com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.projection.QuizSummaryRow(
+            q.id, q.title, q.category,
+            (SELECT COUNT(qs) FROM Question qs WHERE qs.quiz = q),
+            (SELECT COUNT(a) FROM Attempt a WHERE a.quiz = q))
+        FROM Quiz q
+        ORDER BY q.id
+        """)
+    List<QuizSummaryRow> findSummaries();
+}
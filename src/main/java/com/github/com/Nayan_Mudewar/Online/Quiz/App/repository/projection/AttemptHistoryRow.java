@@ -0,0 +1,15 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * One attempt of the user's history, with quiz title and category joined in the same query.
+ */
+public record AttemptHistoryRow(
+        Long attemptId,
+        Long quizId,
+        String quizTitle,
+        String quizCategory,
+        Integer score,
+        LocalDateTime completedAt) {
+}
@@ -0,0 +1,15 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * One user's attempt on a quiz, flattened with the user fields a leaderboard renders.
+ */
+public record LeaderboardRow(
+        Long userId,
+        String userName,
+        String userEmail,
+        Long attemptId,
+        Integer score,
+        LocalDateTime completedAt) {
+}
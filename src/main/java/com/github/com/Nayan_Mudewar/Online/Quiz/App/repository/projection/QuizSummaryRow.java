@@ -0,0 +1,12 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.projection;
+
+/**
+ * A quiz with its question and attempt counts, aggregated in the database.
+ */
+public record QuizSummaryRow(
+        Long quizId,
+        String title,
+        String category,
+        Long questionCount,
+        Long attemptCount) {
+}
@@ -0,0 +1,68 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.service;
+
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Question;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Compiled answer key of one quiz: question ids sorted ascending, with the correct answer and
+ * question text at the same index. Grading a submission is a binary search per answer, with no
+ * database access. Instances are immutable and shared between requests.
+ */
+public final class AnswerKey {
+
+    private final long[] questionIds;
+    private final String[] correctAnswers;
+    private final String[] questionTexts;
+
+    private AnswerKey(long[] questionIds, String[] correctAnswers, String[] questionTexts) {
+        this.questionIds = questionIds;
+        this.correctAnswers = correctAnswers;
+        this.questionTexts = questionTexts;
+    }
+
+    public static AnswerKey compile(List<Question> questions) {
+        Question[] sorted = questions.toArray(new Question[0]);
+        Arrays.sort(sorted, Comparator.comparing(Question::getId));
+
+        long[] ids = new long[sorted.length];
+        String[] answers = new String[sorted.length];
+        String[] texts = new String[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            ids[i] = sorted[i].getId();
+            answers[i] = sorted[i].getCorrectAnswer();
+            texts[i] = sorted[i].getQuestion();
+        }
+        return new AnswerKey(ids, answers, texts);
+    }
+
+    /**
+     * Returns the index of the question in this key, or -1 if it does not belong to the quiz.
+     */
+    public int indexOf(long questionId) {
+        int index = Arrays.binarySearch(questionIds, questionId);
+        return index >= 0 ? index : -1;
+    }
+
+    public boolean isCorrect(int index, String answer) {
+        return correctAnswers[index].equalsIgnoreCase(answer);
+    }
+
+    public long questionIdAt(int index) {
+        return questionIds[index];
+    }
+
+    public String correctAnswerAt(int index) {
+        return correctAnswers[index];
+    }
+
+    public String questionAt(int index) {
+        return questionTexts[index];
+    }
+
+    public int size() {
+        return questionIds.length;
+    }
+}
@@ -1,106 +1,117 @@
 package com.github.com.Nayan_Mudewar.Online.Quiz.App.service;
 
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.config.AuthenticatedUser;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.AnswerResult;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.AttemptHistoryPage;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.AttemptHistoryResponse;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuizSubmitRequest;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuizSubmitResponse;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Attempt;
-import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Question;
-import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Quiz;
-import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.User;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.exception.BadRequestException;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.exception.ResourceNotFoundException;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.AttemptRepository;
-import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.QuestionRepository;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.QuizRepository;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.UserRepository;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.projection.AttemptHistoryRow;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class AttemptService {
 
+    static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     private final AttemptRepository attemptRepository;
     private final QuizRepository quizRepository;
-    private final QuestionRepository questionRepository;
+    private final QuestionBankCache questionBankCache;
     private final UserRepository userRepository;
+    private final AttemptWriter attemptWriter;
 
-    @Transactional
+    // Not transactional: the attempt writer owns the write transaction, and a write-behind
+    // submit must not hold a connection while it waits for its batch to commit
+    @Timed(value = "quiz.submit", description = "Grading and persisting a submitted attempt", histogram = true)
     public QuizSubmitResponse submitQuiz(QuizSubmitRequest request) {
         // Get authenticated user
-        User user = getAuthenticatedUser();
+        AuthenticatedUser user = getAuthenticatedUser();
 
-        // Get quiz
-        Quiz quiz = quizRepository.findById(request.getQuizId())
-                .orElseThrow(() -> new ResourceNotFoundException("Quiz not found with id: " + request.getQuizId()));
+        // Cached quiz snapshot; grading needs no database read
+        QuestionBank bank = questionBankCache.getBank(request.getQuizId());
+        AnswerKey answerKey = bank.getAnswerKey();
 
         // Validate that we have exactly 10 answers
         if (request.getAnswers().size() != 10) {
             throw new BadRequestException("Quiz must have exactly 10 answers. Provided: " + request.getAnswers().size());
         }
 
-        // Get all questions for validation
-        List<Question> questions = questionRepository.findAllById(request.getAnswers().keySet());
+        // Calculate score and build results
+        int score = 0;
+        List<AnswerResult> results = new ArrayList<>(10);
 
-        if (questions.size() != 10) {
-            throw new BadRequestException("Invalid question IDs provided");
-        }
+        for (Map.Entry<Long, String> answer : request.getAnswers().entrySet()) {
+            Long questionId = answer.getKey();
+            int index = questionId == null ? -1 : answerKey.indexOf(questionId);
 
-        // Validate all questions belong to this quiz
-        for (Question question : questions) {
-            if (!question.getQuiz().getId().equals(quiz.getId())) {
-                throw new BadRequestException("Question " + question.getId() + " does not belong to quiz " + quiz.getId());
+            // Validate all questions belong to this quiz
+            if (index < 0) {
+                throw new BadRequestException("Question " + questionId + " does not belong to quiz " + bank.getQuizId());
             }
-        }
-
-        // Calculate score and build results
-        int score = 0;
-        List<AnswerResult> results = new ArrayList<>();
 
-        for (Question question : questions) {
-            String userAnswer = request.getAnswers().get(question.getId());
-            boolean isCorrect = question.getCorrectAnswer().equalsIgnoreCase(userAnswer);
+            boolean isCorrect = answerKey.isCorrect(index, answer.getValue());
 
             if (isCorrect) {
                 score++;
             }
 
             results.add(AnswerResult.builder()
-                    .questionId(question.getId())
-                    .question(question.getQuestion())
-                    .userAnswer(userAnswer)
-                    .correctAnswer(question.getCorrectAnswer())
+                    .questionId(questionId)
+                    .question(answerKey.questionAt(index))
+                    .userAnswer(answer.getValue())
+                    .correctAnswer(answerKey.correctAnswerAt(index))
                     .isCorrect(isCorrect)
                     .build());
         }
 
         // Save attempt
         Attempt attempt = Attempt.builder()
-                .user(user)
-                .quiz(quiz)
+                .user(userRepository.getReferenceById(user.id())) // Proxy, no select
+                .quiz(quizRepository.getReferenceById(bank.getQuizId())) // Proxy, no select
                 .score(score)
                 .completedAt(LocalDateTime.now())
                 .build();
 
-        attempt = attemptRepository.save(attempt);
+        // Commits the attempt, its best_attempts row and the recorded event, possibly batched with others.
+        // A write-behind commit that is slow to confirm still returns the graded result, marked pending,
+        // so the client has no reason to resubmit
+        QuizSubmitResponse.Status status = QuizSubmitResponse.Status.SAVED;
+        Long attemptId = null;
+        try {
+            attemptId = attemptWriter.write(attempt, user).getId();
+        } catch (AttemptWriter.PendingException e) {
+            status = QuizSubmitResponse.Status.PENDING;
+        }
 
         // Calculate percentage
         double percentage = (score * 100.0) / 10;
 
         return QuizSubmitResponse.builder()
-                .attemptId(attempt.getId())
-                .quizId(quiz.getId())
-                .quizTitle(quiz.getTitle())
+                .status(status)
+                .attemptId(attemptId)
+                .quizId(bank.getQuizId())
+                .quizTitle(bank.getTitle())
                 .score(score)
                 .totalQuestions(10)
                 .percentage(percentage)
@@ -109,37 +120,83 @@ public class AttemptService {
                 .build();
     }
 
-    private User getAuthenticatedUser() {
+    // Taken from the principal the JWT filter built; no user lookup
+    private AuthenticatedUser getAuthenticatedUser() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-        String email = authentication.getName();
 
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedUser user)) {
+            throw new ResourceNotFoundException("User not found");
+        }
+        return user;
     }
 
+    /**
+     * One page of the user's attempts, newest first. {@code cursor} is the {@code nextCursor}
+     * of the previous page, or null for the first page.
+     */
     @Transactional(readOnly = true)
-    public List<AttemptHistoryResponse> getUserAttempts() {
-        User user = getAuthenticatedUser();
+    public AttemptHistoryPage getUserAttempts(String cursor, int size) {
+        AuthenticatedUser user = getAuthenticatedUser();
+
+        if (size < 1 || size > MAX_HISTORY_PAGE_SIZE) {
+            throw new BadRequestException("Page size must be between 1 and " + MAX_HISTORY_PAGE_SIZE);
+        }
 
-        List<Attempt> attempts = attemptRepository.findByUserIdOrderByCompletedAtDesc(user.getId());
+        // One extra row tells whether another page follows
+        Pageable page = PageRequest.of(0, size + 1);
+        List<AttemptHistoryRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = attemptRepository.findHistory(user.id(), page);
+        } else {
+            HistoryCursor after = decodeCursor(cursor);
+            rows = attemptRepository.findHistoryAfter(user.id(), after.completedAt(), after.attemptId(), page);
+        }
+
+        boolean hasMore = rows.size() > size;
+        List<AttemptHistoryResponse> attempts = new ArrayList<>(Math.min(rows.size(), size));
+        for (int i = 0; i < rows.size() && i < size; i++) {
+            attempts.add(convertToHistoryDto(rows.get(i)));
+        }
 
-        return attempts.stream()
-                .map(this::convertToHistoryDto)
-                .collect(Collectors.toList());
+        AttemptHistoryResponse last = attempts.isEmpty() ? null : attempts.get(attempts.size() - 1);
+        return AttemptHistoryPage.builder()
+                .attempts(attempts)
+                .nextCursor(hasMore ? encodeCursor(last.getCompletedAt(), last.getAttemptId()) : null)
+                .hasMore(hasMore)
+                .build();
     }
 
-    private AttemptHistoryResponse convertToHistoryDto(Attempt attempt) {
-        double percentage = (attempt.getScore() * 100.0) / 10;
+    private AttemptHistoryResponse convertToHistoryDto(AttemptHistoryRow row) {
+        double percentage = (row.score() * 100.0) / 10;
 
         return AttemptHistoryResponse.builder()
-                .attemptId(attempt.getId())
-                .quizId(attempt.getQuiz().getId())
-                .quizTitle(attempt.getQuiz().getTitle())
-                .quizCategory(attempt.getQuiz().getCategory())
-                .score(attempt.getScore())
+                .attemptId(row.attemptId())
+                .quizId(row.quizId())
+                .quizTitle(row.quizTitle())
+                .quizCategory(row.quizCategory())
+                .score(row.score())
                 .totalQuestions(10)
                 .percentage(percentage)
-                .completedAt(attempt.getCompletedAt())
+                .completedAt(row.completedAt())
                 .build();
     }
+
+    // Opaque to clients: base64url of "<completedAt>,<attemptId>" from the last row of a page
+    private static String encodeCursor(LocalDateTime completedAt, Long attemptId) {
+        String raw = completedAt + "," + attemptId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static HistoryCursor decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int comma = raw.lastIndexOf(',');
+            return new HistoryCursor(LocalDateTime.parse(raw.substring(0, comma)), Long.parseLong(raw.substring(comma + 1)));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    private record HistoryCursor(LocalDateTime completedAt, Long attemptId) {
+    }
 }
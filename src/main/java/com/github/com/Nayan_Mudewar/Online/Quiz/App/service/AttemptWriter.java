@@ -0,0 +1,248 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.service;
+
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.config.AuthenticatedUser;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Attempt;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.BestAttempt;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.BestAttemptId;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.event.AttemptRecordedEvent;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.AttemptRepository;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.BestAttemptRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Persists graded attempts together with their best_attempts row and {@link AttemptRecordedEvent}.
+ * <p>
+ * By default every attempt is written in its own transaction on the caller's thread. With
+ * {@code quiz.attempts.write-behind.enabled=true} attempts are queued and a single flusher
+ * thread commits them in groups of up to {@code batch-size} rows, or whatever arrived within
+ * {@code max-delay-ms}. Callers still return only after their group has committed. A full queue
+ * makes the caller write synchronously instead, which throttles submissions to the database rate.
+ * If the commit is not acknowledged within {@code ack-timeout-ms} the caller gets a
+ * {@link PendingException}; the queued attempt is not withdrawn and will normally still be saved.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttemptWriter {
+
+    private final AttemptRepository attemptRepository;
+    private final BestAttemptRepository bestAttemptRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${quiz.attempts.write-behind.enabled:false}")
+    private boolean writeBehind;
+
+    @Value("${quiz.attempts.write-behind.batch-size:100}")
+    private int batchSize;
+
+    @Value("${quiz.attempts.write-behind.max-delay-ms:10}")
+    private long maxDelayMs;
+
+    @Value("${quiz.attempts.write-behind.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${quiz.attempts.write-behind.ack-timeout-ms:10000}")
+    private long ackTimeoutMs;
+
+    private TransactionTemplate transactionTemplate;
+    private BlockingQueue<PendingAttempt> queue;
+    private Thread flusher;
+    private volatile boolean running;
+    // Held around the running check and the enqueue so nothing is queued once stop() has begun
+    private final Object lifecycle = new Object();
+
+    @PostConstruct
+    void start() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        if (!writeBehind) {
+            return;
+        }
+
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        flusher = new Thread(this::flushLoop, "attempt-writer");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("Write-behind attempt persistence enabled (batch size {}, max delay {} ms)", batchSize, maxDelayMs);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (flusher == null) {
+            return;
+        }
+        synchronized (lifecycle) {
+            running = false;
+        }
+        // The flusher drains whatever is still queued before it exits; anything it left behind,
+        // because it died or missed the deadline, is written here
+        flusher.join(TimeUnit.SECONDS.toMillis(30));
+        List<PendingAttempt> leftovers = new ArrayList<>();
+        queue.drainTo(leftovers);
+        if (!leftovers.isEmpty()) {
+            log.warn("Writing {} queued attempts left behind by the attempt writer", leftovers.size());
+            flush(leftovers);
+        }
+    }
+
+    public Attempt write(Attempt attempt, AuthenticatedUser user) {
+        PendingAttempt pending = new PendingAttempt(attempt, user, new CompletableFuture<>());
+
+        boolean queued;
+        synchronized (lifecycle) {
+            queued = running && queue.offer(pending);
+        }
+        if (!queued) {
+            persistInTransaction(List.of(pending));
+            return attempt;
+        }
+
+        try {
+            return pending.committed().get(ackTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Failed to save attempt", e.getCause());
+        } catch (TimeoutException e) {
+            throw new PendingException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PendingException();
+        }
+    }
+
+    private void flushLoop() {
+        List<PendingAttempt> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingAttempt first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxDelayMs);
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingAttempt next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                flush(batch);
+            } catch (InterruptedException e) {
+                // Write what was already taken; stop() picks up the rest of the queue
+                flush(batch);
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Attempt writer failed to flush {} attempts", batch.size(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<PendingAttempt> batch) {
+        try {
+            persistInTransaction(batch);
+            batch.forEach(pending -> pending.committed().complete(pending.attempt()));
+        } catch (RuntimeException batchFailure) {
+            // Retry one by one so a single bad row only fails its own request
+            for (PendingAttempt pending : batch) {
+                try {
+                    persistInTransaction(List.of(pending));
+                    pending.committed().complete(pending.attempt());
+                } catch (RuntimeException e) {
+                    pending.committed().completeExceptionally(e);
+                }
+            }
+        }
+    }
+
+    private void persistInTransaction(List<PendingAttempt> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(batch));
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent first submit for the same quiz and user inserted the best_attempts row
+            // before us; the retry finds that row and goes through the conditional update instead
+            transactionTemplate.executeWithoutResult(status -> persist(batch));
+        }
+    }
+
+    private void persist(List<PendingAttempt> batch) {
+        List<Attempt> attempts = new ArrayList<>(batch.size());
+        for (PendingAttempt pending : batch) {
+            attempts.add(pending.attempt());
+        }
+        attemptRepository.insertAll(attempts);
+
+        for (PendingAttempt pending : batch) {
+            Attempt attempt = pending.attempt();
+            recordBestAttempt(attempt);
+
+            // Listeners such as the in-memory leaderboard react once this transaction commits
+            eventPublisher.publishEvent(new AttemptRecordedEvent(
+                    attempt.getId(),
+                    attempt.getQuiz().getId(),
+                    pending.user().id(),
+                    pending.user().displayName(),
+                    pending.user().email(),
+                    attempt.getScore(),
+                    attempt.getCompletedAt()));
+        }
+    }
+
+    // Upsert the user's best_attempts row; runs in the same transaction as the attempt insert
+    private void recordBestAttempt(Attempt attempt) {
+        BestAttemptId id = new BestAttemptId(attempt.getQuiz().getId(), attempt.getUser().getId());
+        BestAttempt best = bestAttemptRepository.findById(id).orElse(null);
+
+        if (best == null) {
+            bestAttemptRepository.save(BestAttempt.builder()
+                    .id(id)
+                    .score(attempt.getScore())
+                    .completedAt(attempt.getCompletedAt())
+                    .attemptId(attempt.getId())
+                    .build());
+        } else if (attempt.getScore() > best.getScore()) {
+            // Equal scores keep the earlier attempt, matching the leaderboard tie-break. The update
+            // re-checks the score itself, so a concurrent better submit is not lost
+            bestAttemptRepository.improve(id.getQuizId(), id.getUserId(), attempt.getScore(),
+                    attempt.getCompletedAt(), attempt.getId());
+        }
+    }
+
+    // The attempt is still queued: not failed, just not confirmed yet
+    static final class PendingException extends RuntimeException {
+        PendingException() {
+            super("Attempt not yet confirmed as saved", null, false, false);
+        }
+    }
+
+    private record PendingAttempt(Attempt attempt, AuthenticatedUser user, CompletableFuture<Attempt> committed) {
+    }
+}
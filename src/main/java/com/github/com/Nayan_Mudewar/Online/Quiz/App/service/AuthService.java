@@ -6,14 +6,13 @@ import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.LoginRequest;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.RegisterRequest;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.User;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.exception.BadRequestException;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.exception.ServiceUnavailableException;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -25,23 +24,24 @@ public class AuthService {
     private final AuthenticationManager authenticationManager;
     private final CustomUserDetailsService userDetailsService;
 
-    @Transactional
+    // Not transactional: hashing waits on the bounded hashing pool and must not hold a connection
     public AuthResponse register(RegisterRequest request) {
         // Check if user already exists
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new BadRequestException("Email already registered");
         }
 
+        String encodedPassword = passwordEncoder.encode(request.getPassword());
+
         User user = User.builder()
                 .name(request.getName())
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(encodedPassword)
                 .build();
 
         User savedUser = userRepository.save(user);
 
-        UserDetails userDetails = userDetailsService.loadUserByUsername(savedUser.getEmail());
-        String token = jwtUtil.generateToken(userDetails);
+        String token = jwtUtil.generateToken(savedUser, userDetailsService.getAuthorities(savedUser));
 
         return AuthResponse.builder()
                 .token(token)
@@ -59,6 +59,8 @@ public class AuthService {
                             request.getPassword()
                     )
             );
+        } catch (ServiceUnavailableException e) {
+            throw e; // Hashing pool saturated: 503, not a credentials problem
         } catch (Exception e) {
             throw new BadRequestException("Invalid email or password");
         }
@@ -68,8 +70,7 @@ public class AuthService {
                 .orElseThrow(() -> new BadRequestException("User not found"));
 
         // Generate JWT token
-        UserDetails userDetails = userDetailsService.loadUserByUsername(request.getEmail());
-        String token = jwtUtil.generateToken(userDetails);
+        String token = jwtUtil.generateToken(user, userDetailsService.getAuthorities(user));
 
         return AuthResponse.builder()
                 .token(token)
@@ -3,19 +3,41 @@ package com.github.com.Nayan_Mudewar.Online.Quiz.App.service;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.User;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
+
+    private static final String ROLE_ADMIN = "ROLE_ADMIN";
 
     private final UserRepository userRepository;
 
+    private Set<String> adminEmails = Set.of();
+
+    // Comma-separated; matched case-insensitively
+    @Value("${quiz.security.admin-emails:}")
+    void setAdminEmails(List<String> adminEmails) {
+        this.adminEmails = adminEmails.stream()
+                .map(email -> email.trim().toLowerCase(Locale.ROOT))
+                .filter(email -> !email.isEmpty())
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         User user = userRepository.findByEmail(email)
@@ -24,7 +46,32 @@ public class CustomUserDetailsService implements UserDetailsService {
         return new org.springframework.security.core.userdetails.User(
                 user.getEmail(),
                 user.getPassword(),
-                new ArrayList<>() // Empty authorities
+                getAuthorities(user)
         );
     }
+
+    // Called by DaoAuthenticationProvider after a successful login whose stored hash was made at
+    // a different BCrypt cost; newPassword is the presented password re-hashed at the current cost
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + userDetails.getUsername()));
+        user.setPassword(newPassword);
+
+        return new org.springframework.security.core.userdetails.User(
+                user.getEmail(),
+                newPassword,
+                getAuthorities(user)
+        );
+    }
+
+    // Also embedded in issued tokens, so requests can be authorized without loading the user
+    public List<GrantedAuthority> getAuthorities(User user) {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        if (user.getEmail() != null && adminEmails.contains(user.getEmail().toLowerCase(Locale.ROOT))) {
+            authorities.add(new SimpleGrantedAuthority(ROLE_ADMIN));
+        }
+        return authorities;
+    }
 }
@@ -0,0 +1,200 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.service;
+
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Quiz;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.event.AttemptRecordedEvent;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.BestAttemptRepository;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.QuizRepository;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.projection.LeaderboardRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Keeps every quiz's leaderboard in memory: one best entry per user, ordered by score DESC,
+ * completedAt ASC. Boards are built from best_attempts by the startup warmup (or on first read for
+ * quizzes created later) and updated incrementally once a submitted attempt has committed.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LeaderboardEngine {
+
+    static final Comparator<LeaderboardRow> RANK_ORDER = Comparator
+            .comparing(LeaderboardRow::score, Comparator.reverseOrder())
+            .thenComparing(LeaderboardRow::completedAt)
+            .thenComparing(LeaderboardRow::userId);
+
+    private final BestAttemptRepository bestAttemptRepository;
+    private final QuizRepository quizRepository;
+
+    private final Map<Long, QuizBoard> boards = new ConcurrentHashMap<>();
+
+    @Value("${quiz.leaderboard.in-memory:true}")
+    private boolean enabled;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        for (Quiz quiz : quizRepository.findAll()) {
+            board(quiz.getId());
+        }
+        log.info("Built in-memory leaderboards for {} quizzes in {} ms", boards.size(), System.currentTimeMillis() - start);
+    }
+
+    public List<LeaderboardRow> top(Long quizId, Integer limit) {
+        return page(quizId, 0, limit);
+    }
+
+    public List<LeaderboardRow> page(Long quizId, int offset, Integer limit) {
+        return board(quizId).page(offset, limit == null ? Integer.MAX_VALUE : limit);
+    }
+
+    // Number of users ranked strictly above the given score
+    public int countHigherScores(Long quizId, int score) {
+        return board(quizId).countHigherScores(score);
+    }
+
+    /**
+     * The user's row with up to {@code radius} rows either side, in rank order; empty when the
+     * user has no attempt on the quiz.
+     */
+    public List<LeaderboardRow> around(Long quizId, Long userId, int radius) {
+        return board(quizId).around(userId, radius);
+    }
+
+    public int size(Long quizId) {
+        return board(quizId).size();
+    }
+
+    @Order(0) // Before ResourceVersions publishes a new version
+    @TransactionalEventListener
+    public void onAttemptRecorded(AttemptRecordedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        LeaderboardRow row = new LeaderboardRow(
+                event.userId(),
+                event.userName(),
+                event.userEmail(),
+                event.attemptId(),
+                event.score(),
+                event.completedAt());
+
+        // Boards not loaded yet will pick the attempt up from the database. computeIfPresent
+        // waits for an in-flight load of the same quiz, so the update is never lost in between.
+        boards.computeIfPresent(event.quizId(), (quizId, board) -> {
+            board.offer(row);
+            return board;
+        });
+    }
+
+    private QuizBoard board(Long quizId) {
+        QuizBoard board = boards.get(quizId);
+        if (board != null) {
+            return board;
+        }
+        return boards.computeIfAbsent(quizId, this::load);
+    }
+
+    private QuizBoard load(Long quizId) {
+        QuizBoard board = new QuizBoard();
+        for (LeaderboardRow row : bestAttemptRepository.findLeaderboardRowsByQuizId(quizId)) {
+            board.offer(row);
+        }
+        return board;
+    }
+
+    /**
+     * Writers are serialized per board; readers walk the skip list without locking and may
+     * observe a user briefly missing while their entry is being replaced. A count of users per
+     * score sits alongside, so a tie-aware rank costs one step per distinct score rather than
+     * one per user ranked above.
+     */
+    static final class QuizBoard {
+
+        private final ConcurrentSkipListSet<LeaderboardRow> ranked = new ConcurrentSkipListSet<>(RANK_ORDER);
+        private final Map<Long, LeaderboardRow> bestByUser = new ConcurrentHashMap<>();
+        private final ConcurrentSkipListMap<Integer, Integer> usersByScore = new ConcurrentSkipListMap<>();
+
+        synchronized void offer(LeaderboardRow row) {
+            LeaderboardRow current = bestByUser.get(row.userId());
+            if (current != null) {
+                if (RANK_ORDER.compare(row, current) >= 0) {
+                    return; // Not better than the user's best
+                }
+                ranked.remove(current);
+                usersByScore.computeIfPresent(current.score(), (score, count) -> count == 1 ? null : count - 1);
+            }
+            ranked.add(row);
+            bestByUser.put(row.userId(), row);
+            usersByScore.merge(row.score(), 1, Integer::sum);
+        }
+
+        List<LeaderboardRow> page(int offset, int limit) {
+            List<LeaderboardRow> rows = new ArrayList<>(Math.min(limit, 128));
+            int skipped = 0;
+            for (LeaderboardRow row : ranked) {
+                if (rows.size() >= limit) {
+                    break;
+                }
+                if (skipped < offset) {
+                    skipped++;
+                    continue;
+                }
+                rows.add(row);
+            }
+            return rows;
+        }
+
+        int countHigherScores(int score) {
+            int count = 0;
+            for (int users : usersByScore.tailMap(score, false).values()) {
+                count += users;
+            }
+            return count;
+        }
+
+        // Skip list navigation from the user's row: O(log n + radius)
+        List<LeaderboardRow> around(Long userId, int radius) {
+            LeaderboardRow row = bestByUser.get(userId);
+            if (row == null) {
+                return List.of();
+            }
+            List<LeaderboardRow> rows = new ArrayList<>(2 * radius + 1);
+            Iterator<LeaderboardRow> above = ranked.headSet(row, false).descendingIterator();
+            while (rows.size() < radius && above.hasNext()) {
+                rows.add(above.next());
+            }
+            Collections.reverse(rows);
+            rows.add(row);
+            Iterator<LeaderboardRow> below = ranked.tailSet(row, false).iterator();
+            for (int i = 0; i < radius && below.hasNext(); i++) {
+                rows.add(below.next());
+            }
+            return rows;
+        }
+
+        int size() {
+            return bestByUser.size();
+        }
+    }
+}
@@ -1,77 +1,203 @@
 package com.github.com.Nayan_Mudewar.Online.Quiz.App.service;
 
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.config.AuthenticatedUser;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.LeaderboardEntry;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.LeaderboardResponse;
-import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Attempt;
-import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Quiz;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuizSummary;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.exception.BadRequestException;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.exception.ResourceNotFoundException;
-import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.AttemptRepository;
-import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.QuizRepository;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.BestAttemptRepository;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.projection.LeaderboardRow;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class LeaderboardService {
 
-    private final AttemptRepository attemptRepository;
-    private final QuizRepository quizRepository;
+    static final int MAX_RADIUS = 50;
 
+    private final BestAttemptRepository bestAttemptRepository;
+    private final QuizCatalog quizCatalog;
+    private final LeaderboardEngine leaderboardEngine;
+
+    // Each public entry point carries @Timed: calls between them bypass the proxy and its aspect
+    @Timed(value = "quiz.leaderboard", description = "Building a leaderboard page", histogram = true)
     @Transactional(readOnly = true)
     public LeaderboardResponse getLeaderboard(Long quizId, Integer limit) {
-        // Validate quiz exists
-        Quiz quiz = quizRepository.findById(quizId)
-                .orElseThrow(() -> new ResourceNotFoundException("Quiz not found with id: " + quizId));
+        return getLeaderboard(quizId, 0, limit);
+    }
 
-        // Get all attempts for this quiz, sorted by score DESC, then by completedAt ASC
-        List<Attempt> attempts = attemptRepository.findBestAttemptPerUserByQuizId(quizId);
+    /**
+     * Leaderboard rows {@code offset} to {@code offset + limit}; ranks stay absolute, so a page
+     * starting in the middle of a tie gives its first rows the tie's shared rank.
+     */
+    @Timed(value = "quiz.leaderboard", description = "Building a leaderboard page", histogram = true)
+    @Transactional(readOnly = true)
+    public LeaderboardResponse getLeaderboard(Long quizId, int offset, Integer limit) {
+        if (offset < 0) {
+            throw new BadRequestException("Offset must not be negative");
+        }
 
-        // Build leaderboard entries
-        List<LeaderboardEntry> leaderboard = new ArrayList<>();
-        int rank = 1;
-        Integer previousScore = null;
-        int actualRank = 1;
+        // Validate quiz exists; the catalog snapshot has the title, so no quiz query
+        QuizSummary quiz = quizCatalog.getSummary(quizId);
 
-        for (int i = 0; i < attempts.size() && (limit == null || i < limit); i++) {
-            Attempt attempt = attempts.get(i);
+        // Best attempt per user, sorted by score DESC, then by completedAt ASC
+        Integer pageSize = limit == null ? null : Math.max(limit, 0);
+        List<LeaderboardRow> rows;
+        int totalAttempts;
+        int firstRank = offset + 1;
 
-            // Handle ties - same score gets same rank
-            if (previousScore != null && !previousScore.equals(attempt.getScore())) {
-                rank = actualRank;
+        if (leaderboardEngine.isEnabled()) {
+            rows = leaderboardEngine.page(quizId, offset, pageSize);
+            totalAttempts = leaderboardEngine.size(quizId);
+            if (offset > 0 && !rows.isEmpty()) {
+                firstRank = leaderboardEngine.countHigherScores(quizId, rows.get(0).score()) + 1;
+            }
+        } else {
+            // Flat projection with the user joined in; offset and limit applied in SQL
+            rows = pageSize != null && pageSize == 0
+                    ? List.of()
+                    : bestAttemptRepository.findLeaderboardPage(quizId, offset, pageSize);
+            totalAttempts = (int) bestAttemptRepository.countByIdQuizId(quizId);
+            if (offset > 0 && !rows.isEmpty()) {
+                firstRank = (int) bestAttemptRepository.countByIdQuizIdAndScoreGreaterThan(quizId, rows.get(0).score()) + 1;
             }
+        }
 
-            double percentage = (attempt.getScore() * 100.0) / 10;
+        // Build leaderboard entries
+        List<LeaderboardEntry> leaderboard = rank(rows, firstRank, offset + 1);
 
-            LeaderboardEntry entry = LeaderboardEntry.builder()
-                    .userId(attempt.getUser().getId())
-                    .userName(attempt.getUser().getName())
-                    .userEmail(attempt.getUser().getEmail())
-                    .score(attempt.getScore())
-                    .percentage(percentage)
-                    .completedAt(attempt.getCompletedAt())
-                    .rank(rank)
-                    .build();
+        return LeaderboardResponse.builder()
+                .quizId(quiz.getId())
+                .quizTitle(quiz.getTitle())
+                .totalAttempts(totalAttempts)
+                .leaderboard(leaderboard)
+                .build();
+    }
 
-            leaderboard.add(entry);
-            previousScore = attempt.getScore();
-            actualRank++;
+    /**
+     * The current user's leaderboard entry with up to {@code radius} neighbours either side.
+     */
+    @Timed(value = "quiz.leaderboard.around", description = "Building a leaderboard window around a user", histogram = true)
+    @Transactional(readOnly = true)
+    public LeaderboardResponse getMyLeaderboard(Long quizId, int radius) {
+        return around(quizId, getAuthenticatedUser().id(), radius);
+    }
+
+    /**
+     * A user's leaderboard entry with up to {@code radius} neighbours either side, ranked as on
+     * the full leaderboard. The in-memory engine navigates from the user's row and ranks by a
+     * per-score count, independent of the number of participants. The database fallback fetches
+     * the window by seeking the rank index, but its rank and position are index-only counts over
+     * the rows above, so their cost grows with the user's position.
+     */
+    @Timed(value = "quiz.leaderboard.around", description = "Building a leaderboard window around a user", histogram = true)
+    @Transactional(readOnly = true)
+    public LeaderboardResponse getLeaderboardAround(Long quizId, Long userId, int radius) {
+        return around(quizId, userId, radius);
+    }
+
+    private LeaderboardResponse around(Long quizId, Long userId, int radius) {
+        if (radius < 0 || radius > MAX_RADIUS) {
+            throw new BadRequestException("Radius must be between 0 and " + MAX_RADIUS);
+        }
+
+        QuizSummary quiz = quizCatalog.getSummary(quizId);
+
+        List<LeaderboardEntry> leaderboard;
+        int totalAttempts;
+
+        if (leaderboardEngine.isEnabled()) {
+            List<LeaderboardRow> rows = leaderboardEngine.around(quizId, userId, radius);
+            if (rows.isEmpty()) {
+                throw new ResourceNotFoundException("No leaderboard entry for user " + userId + " on quiz " + quizId);
+            }
+            // Each row's rank is one past the users with a higher score, whatever its position
+            leaderboard = new ArrayList<>(rows.size());
+            for (LeaderboardRow row : rows) {
+                leaderboard.add(entry(row, leaderboardEngine.countHigherScores(quizId, row.score()) + 1));
+            }
+            totalAttempts = leaderboardEngine.size(quizId);
+        } else {
+            LeaderboardRow anchor = bestAttemptRepository.findLeaderboardRow(quizId, userId)
+                    .orElseThrow(() -> new ResourceNotFoundException("No leaderboard entry for user " + userId + " on quiz " + quizId));
+            List<LeaderboardRow> rows = bestAttemptRepository.findLeaderboardWindow(quizId, anchor, radius);
+
+            // Rank and position of the window's first row; the rest follow as on a page
+            LeaderboardRow first = rows.get(0);
+            int firstRank = (int) bestAttemptRepository.countByIdQuizIdAndScoreGreaterThan(quizId, first.score()) + 1;
+            int firstPosition = rows.size() == 1
+                    ? firstRank
+                    : (int) bestAttemptRepository.countRankedBefore(quizId, first) + 1;
+            leaderboard = rank(rows, firstRank, firstPosition);
+            totalAttempts = (int) bestAttemptRepository.countByIdQuizId(quizId);
         }
 
         return LeaderboardResponse.builder()
                 .quizId(quiz.getId())
                 .quizTitle(quiz.getTitle())
-                .totalAttempts(attempts.size())
+                .totalAttempts(totalAttempts)
                 .leaderboard(leaderboard)
                 .build();
     }
 
+    /**
+     * Turns ranked rows into entries; a row tied on score with the one before it shares its rank.
+     * {@code firstRank} is the rank of the first row and {@code firstPosition} its 1-based position.
+     */
+    static List<LeaderboardEntry> rank(List<LeaderboardRow> rows, int firstRank, int firstPosition) {
+        List<LeaderboardEntry> leaderboard = new ArrayList<>(rows.size());
+        int rank = firstRank;
+        Integer previousScore = null;
+        int actualRank = firstPosition;
+
+        for (LeaderboardRow row : rows) {
+            // Handle ties - same score gets same rank
+            if (previousScore != null && !previousScore.equals(row.score())) {
+                rank = actualRank;
+            }
+
+            leaderboard.add(entry(row, rank));
+            previousScore = row.score();
+            actualRank++;
+        }
+        return leaderboard;
+    }
+
+    private static LeaderboardEntry entry(LeaderboardRow row, int rank) {
+        double percentage = (row.score() * 100.0) / 10;
+
+        return LeaderboardEntry.builder()
+                .userId(row.userId())
+                .userName(row.userName())
+                .userEmail(row.userEmail())
+                .score(row.score())
+                .percentage(percentage)
+                .completedAt(row.completedAt())
+                .rank(rank)
+                .build();
+    }
+
+    private AuthenticatedUser getAuthenticatedUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedUser user)) {
+            throw new ResourceNotFoundException("User not found");
+        }
+        return user;
+    }
+
+    @Timed(value = "quiz.leaderboard", description = "Building a leaderboard page", histogram = true)
     @Transactional(readOnly = true)
     public LeaderboardResponse getTopLeaderboard(Long quizId) {
         return getLeaderboard(quizId, 10); // Default top 10
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,351 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.LeaderboardEntry;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.LeaderboardResponse;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.LeaderboardUpdate;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.event.AttemptRecordedEvent;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.event.QuizContentChangedEvent;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pushes leaderboard changes to Server-Sent Events subscribers. A subscriber first gets a
+ * {@code snapshot} of the top N, then {@code diff} events with the entries that changed.
+ * <p>
+ * Committed attempts only mark their quiz dirty; the top N is recomputed at most once per
+ * {@code coalesce-ms} per quiz, diffed against what subscribers already have, serialized once
+ * and queued to every subscriber. Each subscriber has a bounded queue drained by a small sender
+ * pool, and a subscriber whose queue is full is dropped rather than slowing the others down.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LeaderboardStream {
+
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("keep-alive").build();
+
+    private final LeaderboardService leaderboardService;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${quiz.leaderboard.stream.top:10}")
+    private int top;
+
+    @Value("${quiz.leaderboard.stream.coalesce-ms:250}")
+    private long coalesceMs;
+
+    @Value("${quiz.leaderboard.stream.buffer-size:16}")
+    private int bufferSize;
+
+    @Value("${quiz.leaderboard.stream.max-subscribers:10000}")
+    private int maxSubscribers;
+
+    @Value("${quiz.leaderboard.stream.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${quiz.leaderboard.stream.heartbeat-ms:20000}")
+    private long heartbeatMs;
+
+    @Value("${quiz.leaderboard.stream.sender-threads:4}")
+    private int senderThreads;
+
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private ScheduledExecutorService scheduler;
+    private ExecutorService senders;
+    private Counter dropped;
+
+    @PostConstruct
+    void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(daemon("leaderboard-stream"));
+        senders = Executors.newFixedThreadPool(senderThreads, daemon("leaderboard-stream-sender"));
+        scheduler.scheduleAtFixedRate(this::heartbeat, heartbeatMs, heartbeatMs, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("leaderboard.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open leaderboard event streams")
+                .register(meterRegistry);
+        dropped = Counter.builder("leaderboard.stream.dropped")
+                .description("Leaderboard subscribers dropped because they fell behind")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+        senders.shutdownNow();
+        channels.values().forEach(channel -> channel.subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    public SseEmitter subscribe(Long quizId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceUnavailableException("Too many leaderboard streams open, poll the leaderboard instead");
+        }
+
+        Subscriber subscriber = new Subscriber(quizId, new SseEmitter(timeoutMs));
+        try {
+            Channel channel = channels.compute(quizId, (id, existing) -> {
+                Channel joined = existing != null ? existing : new Channel(id);
+                joined.subscribers.add(subscriber);
+                return joined;
+            });
+            subscriber.emitter.onCompletion(() -> unsubscribe(subscriber));
+            subscriber.emitter.onTimeout(() -> unsubscribe(subscriber));
+            subscriber.emitter.onError(error -> unsubscribe(subscriber));
+
+            // Under the channel lock, so no diff is computed between this snapshot and going live
+            synchronized (channel) {
+                subscriber.offer(channel.snapshotFrame());
+                subscriber.live = true;
+            }
+        } catch (RuntimeException e) {
+            unsubscribe(subscriber);
+            throw e;
+        }
+        return subscriber.emitter;
+    }
+
+    @Order(1) // After the in-memory leaderboard has taken the attempt
+    @TransactionalEventListener
+    public void onAttemptRecorded(AttemptRecordedEvent event) {
+        markDirty(event.quizId());
+    }
+
+    @Order(1) // After the catalog has dropped the old title
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuizContentChanged(QuizContentChangedEvent event) {
+        markDirty(event.quizId()); // The title is part of the snapshot
+    }
+
+    int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private void markDirty(Long quizId) {
+        Channel channel = channels.get(quizId);
+        if (channel != null && channel.flushScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(() -> senders.execute(() -> flush(channel)), coalesceMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush(Channel channel) {
+        // Reset first: an attempt committed while this runs schedules another flush
+        channel.flushScheduled.set(false);
+        try {
+            synchronized (channel) {
+                Set<DataWithMediaType> frame = channel.advance();
+                if (frame == null) {
+                    return;
+                }
+                for (Subscriber subscriber : channel.subscribers) {
+                    if (subscriber.live) {
+                        subscriber.offer(frame);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Could not push leaderboard update for quiz {}", channel.quizId, e);
+        }
+    }
+
+    private void heartbeat() {
+        for (Channel channel : channels.values()) {
+            for (Subscriber subscriber : channel.subscribers) {
+                if (subscriber.live) {
+                    subscriber.offer(HEARTBEAT);
+                }
+            }
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        channels.computeIfPresent(subscriber.quizId, (id, channel) -> {
+            channel.subscribers.remove(subscriber);
+            return channel.subscribers.isEmpty() ? null : channel;
+        });
+    }
+
+    private Set<DataWithMediaType> frame(String name, LeaderboardUpdate update) {
+        try {
+            return SseEmitter.event()
+                    .name(name)
+                    .id(String.valueOf(update.getSequence()))
+                    .data(objectMapper.writeValueAsString(update))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize leaderboard update", e);
+        }
+    }
+
+    private static ThreadFactory daemon(String name) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    // One quiz's subscribers and the top N they have been sent; guarded by its own monitor
+    private final class Channel {
+
+        final Long quizId;
+        final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+        LeaderboardResponse current;
+        long sequence;
+        Set<DataWithMediaType> snapshot;
+
+        Channel(Long quizId) {
+            this.quizId = quizId;
+        }
+
+        Set<DataWithMediaType> snapshotFrame() {
+            if (current == null) {
+                current = leaderboardService.getLeaderboard(quizId, 0, top);
+            }
+            if (snapshot == null) {
+                snapshot = frame("snapshot", LeaderboardUpdate.builder()
+                        .quizId(quizId)
+                        .sequence(sequence)
+                        .totalAttempts(current.getTotalAttempts())
+                        .entries(current.getLeaderboard())
+                        .removedUserIds(List.of())
+                        .build());
+            }
+            return snapshot;
+        }
+
+        // Recomputes the top N; returns the diff frame, or null when nothing subscribers see changed
+        Set<DataWithMediaType> advance() {
+            LeaderboardResponse next = leaderboardService.getLeaderboard(quizId, 0, top);
+
+            Map<Long, LeaderboardEntry> previous = new HashMap<>();
+            if (current != null) {
+                for (LeaderboardEntry entry : current.getLeaderboard()) {
+                    previous.put(entry.getUserId(), entry);
+                }
+            }
+            List<LeaderboardEntry> changed = new ArrayList<>();
+            Set<Long> stillListed = new HashSet<>();
+            for (LeaderboardEntry entry : next.getLeaderboard()) {
+                stillListed.add(entry.getUserId());
+                if (!entry.equals(previous.get(entry.getUserId()))) {
+                    changed.add(entry);
+                }
+            }
+            List<Long> removed = new ArrayList<>();
+            for (Long userId : previous.keySet()) {
+                if (!stillListed.contains(userId)) {
+                    removed.add(userId);
+                }
+            }
+
+            boolean titleChanged = current != null && !next.getQuizTitle().equals(current.getQuizTitle());
+            boolean totalChanged = current == null || !next.getTotalAttempts().equals(current.getTotalAttempts());
+            current = next;
+            snapshot = null;
+            if (titleChanged) {
+                // Diffs carry no title; subscribers need a fresh snapshot
+                sequence++;
+                return snapshotFrame();
+            }
+            if (changed.isEmpty() && removed.isEmpty() && !totalChanged) {
+                return null;
+            }
+            sequence++;
+            return frame("diff", LeaderboardUpdate.builder()
+                    .quizId(quizId)
+                    .sequence(sequence)
+                    .totalAttempts(next.getTotalAttempts())
+                    .entries(changed)
+                    .removedUserIds(removed)
+                    .build());
+        }
+    }
+
+    private final class Subscriber {
+
+        final Long quizId;
+        final SseEmitter emitter;
+        final BlockingQueue<Set<DataWithMediaType>> pending = new ArrayBlockingQueue<>(bufferSize);
+        final AtomicBoolean draining = new AtomicBoolean();
+        final AtomicBoolean closed = new AtomicBoolean();
+        volatile boolean live;
+
+        Subscriber(Long quizId, SseEmitter emitter) {
+            this.quizId = quizId;
+            this.emitter = emitter;
+        }
+
+        void offer(Set<DataWithMediaType> frame) {
+            if (closed.get()) {
+                return;
+            }
+            if (!pending.offer(frame)) {
+                // Too far behind to catch up; it can reconnect and start from a snapshot
+                dropped.increment();
+                unsubscribe(this);
+                emitter.complete();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                Set<DataWithMediaType> frame;
+                while ((frame = pending.poll()) != null) {
+                    try {
+                        emitter.send(frame);
+                    } catch (Exception e) {
+                        unsubscribe(this);
+                        emitter.completeWithError(e);
+                        return;
+                    }
+                }
+                draining.set(false);
+                // Something queued between the last poll and the reset still needs a drainer
+            } while (!pending.isEmpty() && draining.compareAndSet(false, true));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.service;
+
+/**
+ * Immutable snapshot of a quiz and its question bank: answers compiled into an {@link AnswerKey}
+ * and start responses pre-rendered as a {@link StartPayload}.
+ * Instances are shared between requests and must not be mutated.
+ */
+public final class QuestionBank {
+
+    private final Long quizId;
+    private final String title;
+    private final String category;
+    private final AnswerKey answerKey;
+    private final StartPayload startPayload;
+
+    public QuestionBank(Long quizId, String title, String category, AnswerKey answerKey, StartPayload startPayload) {
+        this.quizId = quizId;
+        this.title = title;
+        this.category = category;
+        this.answerKey = answerKey;
+        this.startPayload = startPayload;
+    }
+
+    public Long getQuizId() {
+        return quizId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public AnswerKey getAnswerKey() {
+        return answerKey;
+    }
+
+    public StartPayload getStartPayload() {
+        return startPayload;
+    }
+
+    public int size() {
+        return startPayload.size();
+    }
+
+    public int[] sampleIndices(int count) {
+        return QuestionSampler.sampleIndices(size(), count);
+    }
+}
@@ -0,0 +1,84 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuestionDto;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Question;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Quiz;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.event.QuizContentChangedEvent;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.exception.BadRequestException;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.exception.ResourceNotFoundException;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.QuestionRepository;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.QuizRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lazily loaded, per-quiz {@link QuestionBank} snapshots. A snapshot is dropped once a
+ * change to the quiz or its questions has committed, and rebuilt on the next read.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuestionBankCache {
+
+    private static final TypeReference<List<String>> OPTIONS_TYPE = new TypeReference<>() {};
+
+    private final QuizRepository quizRepository;
+    private final QuestionRepository questionRepository;
+    private final ObjectMapper objectMapper;
+
+    private final Map<Long, QuestionBank> banks = new ConcurrentHashMap<>();
+
+    public QuestionBank getBank(Long quizId) {
+        QuestionBank bank = banks.get(quizId);
+        if (bank != null) {
+            return bank;
+        }
+        // computeIfAbsent serializes a concurrent invalidate() behind the load, so a
+        // snapshot read before a commit can never outlive that commit's invalidation
+        return banks.computeIfAbsent(quizId, this::load);
+    }
+
+    public void invalidate(Long quizId) {
+        banks.remove(quizId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuizContentChanged(QuizContentChangedEvent event) {
+        invalidate(event.quizId());
+    }
+
+    private QuestionBank load(Long quizId) {
+        Quiz quiz = quizRepository.findById(quizId)
+                .orElseThrow(() -> new ResourceNotFoundException("Quiz not found with id: " + quizId));
+
+        List<Question> questions = questionRepository.findByQuizId(quizId);
+        List<QuestionDto> questionDtos = new ArrayList<>(questions.size());
+        for (Question question : questions) {
+            questionDtos.add(convertToQuestionDto(question));
+        }
+
+        return new QuestionBank(quiz.getId(), quiz.getTitle(), quiz.getCategory(), AnswerKey.compile(questions),
+                StartPayload.render(objectMapper, quiz.getId(), quiz.getTitle(), quiz.getCategory(), questionDtos));
+    }
+
+    QuestionDto convertToQuestionDto(Question question) {
+        try {
+            List<String> options = objectMapper.readValue(question.getOptions(), OPTIONS_TYPE);
+
+            return QuestionDto.builder()
+                    .id(question.getId())
+                    .question(question.getQuestion())
+                    .options(List.copyOf(options))
+                    .build();
+        } catch (Exception e) {
+            throw new BadRequestException("Error parsing question options: " + e.getMessage());
+        }
+    }
+}
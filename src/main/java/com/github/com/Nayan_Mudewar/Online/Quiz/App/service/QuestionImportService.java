@@ -0,0 +1,293 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuestionImportError;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuestionImportReport;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Question;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Quiz;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.event.QuizContentChangedEvent;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.exception.BadRequestException;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.exception.ResourceNotFoundException;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.QuestionRepository;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.QuizRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Bulk-loads questions into a quiz from a JSON Lines or CSV stream. Rows are read and validated
+ * one at a time and inserted in JDBC batches of {@code quiz.import.batch-size}, each committed on
+ * its own, so memory stays bounded by one batch whatever the file size. Invalid rows are skipped
+ * and reported by line; the caches built from quiz content are invalidated once at the end.
+ * <p>
+ * JSON Lines: one {@code {"question": ..., "options": [...], "correctAnswer": ...}} object per
+ * line. CSV: a {@code question,options,correctAnswer} header, options separated by {@code |}.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuestionImportService {
+
+    public enum Format { JSONL, CSV }
+
+    static final int MIN_OPTIONS = 2;
+    static final int MAX_OPTIONS = 10;
+    static final int MAX_ANSWER_LENGTH = 255; // correct_answer is a VARCHAR(255)
+
+    private static final List<String> CSV_HEADER = List.of("question", "options", "correctanswer");
+    private static final int PROGRESS_EVERY_BATCHES = 10;
+
+    private final QuizRepository quizRepository;
+    private final QuestionRepository questionRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${quiz.import.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${quiz.import.max-reported-errors:100}")
+    private int maxReportedErrors;
+
+    public QuestionImportReport importQuestions(Long quizId, InputStream input, Format format) throws IOException {
+        if (!quizRepository.existsById(quizId)) {
+            throw new ResourceNotFoundException("Quiz not found with id: " + quizId);
+        }
+
+        Import run = new Import(quizId);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        try {
+            if (format == Format.CSV) {
+                readCsv(reader, run);
+            } else {
+                readJsonLines(reader, run);
+            }
+            run.flush();
+        } finally {
+            // Whatever committed is visible now, even if a later batch failed
+            if (run.imported > 0) {
+                eventPublisher.publishEvent(new QuizContentChangedEvent(quizId));
+            }
+        }
+
+        log.info("Imported {} questions into quiz {} ({} rows, {} rejected) in {} ms",
+                run.imported, quizId, run.rowsRead, run.rejected, run.elapsedMs());
+        return run.report();
+    }
+
+    private void readJsonLines(BufferedReader reader, Import run) throws IOException {
+        // Exports from other tools carry extra fields; the app mapper would reject them
+        ObjectReader rowReader = objectMapper.readerFor(ImportRow.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        String text;
+        int line = 0;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            ImportRow row;
+            try {
+                row = rowReader.readValue(text);
+            } catch (JsonProcessingException e) {
+                run.reject(line, "Malformed JSON: " + e.getOriginalMessage());
+                continue;
+            }
+            if (row == null) {
+                run.reject(line, "Expected a JSON object");
+                continue;
+            }
+            run.accept(line, row.question(), row.options(), row.correctAnswer());
+        }
+    }
+
+    private void readCsv(BufferedReader reader, Import run) throws IOException {
+        CsvRecordReader records = new CsvRecordReader(reader);
+        List<String> header = records.next();
+        if (header == null
+                || !header.stream().map(name -> name.trim().toLowerCase(Locale.ROOT)).toList().equals(CSV_HEADER)) {
+            throw new BadRequestException("CSV must start with the header question,options,correctAnswer");
+        }
+
+        List<String> fields;
+        while (true) {
+            try {
+                fields = records.next();
+            } catch (IllegalArgumentException e) {
+                // An open quote swallows the rest of the file; nothing after it can be trusted
+                run.reject(records.recordLine(), e.getMessage());
+                return;
+            }
+            if (fields == null) {
+                return;
+            }
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            if (fields.size() != CSV_HEADER.size()) {
+                run.reject(records.recordLine(), "Expected 3 fields but found " + fields.size());
+                continue;
+            }
+            run.accept(records.recordLine(), fields.get(0), List.of(fields.get(1).split("\\|", -1)), fields.get(2));
+        }
+    }
+
+    // Null when the row is valid
+    static String validate(String question, List<String> options, String correctAnswer) {
+        if (question == null || question.isBlank()) {
+            return "Question text is required";
+        }
+        if (options == null || options.size() < MIN_OPTIONS || options.size() > MAX_OPTIONS) {
+            return "Between " + MIN_OPTIONS + " and " + MAX_OPTIONS + " options are required";
+        }
+        if (options.stream().anyMatch(option -> option == null || option.isBlank())) {
+            return "Options must not be blank";
+        }
+        if (new HashSet<>(options).size() != options.size()) {
+            return "Options must be distinct";
+        }
+        if (correctAnswer == null || correctAnswer.isBlank()) {
+            return "Correct answer is required";
+        }
+        if (correctAnswer.length() > MAX_ANSWER_LENGTH) {
+            return "Correct answer must be at most " + MAX_ANSWER_LENGTH + " characters";
+        }
+        if (!options.contains(correctAnswer)) {
+            return "Correct answer must be one of the options";
+        }
+        return null;
+    }
+
+    private static List<String> trim(List<String> values) {
+        if (values == null) {
+            return null;
+        }
+        List<String> trimmed = new ArrayList<>(values.size());
+        for (String value : values) {
+            trimmed.add(value == null ? null : value.trim());
+        }
+        return trimmed;
+    }
+
+    record ImportRow(String question, List<String> options, String correctAnswer) {
+    }
+
+    // One request's progress: the pending batch, counters and the first rejected rows
+    private final class Import {
+
+        final Quiz quiz;
+        final long startNanos = System.nanoTime();
+        final ObjectWriter optionsWriter = objectMapper.writerFor(new TypeReference<List<String>>() {
+        });
+        final TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        final Counter importedRows = Counter.builder("quiz.import.rows")
+                .description("Question rows read by bulk imports")
+                .tag("outcome", "imported")
+                .register(meterRegistry);
+        final Counter rejectedRows = Counter.builder("quiz.import.rows")
+                .description("Question rows read by bulk imports")
+                .tag("outcome", "rejected")
+                .register(meterRegistry);
+
+        final List<Question> batch = new ArrayList<>(batchSize);
+        final List<QuestionImportError> errors = new ArrayList<>();
+        int rowsRead;
+        int imported;
+        int rejected;
+        int batches;
+
+        Import(Long quizId) {
+            // Only the id is written; no need to load the quiz
+            this.quiz = Quiz.builder().id(quizId).build();
+        }
+
+        void accept(int line, String question, List<String> options, String correctAnswer) throws JsonProcessingException {
+            rowsRead++;
+            List<String> trimmedOptions = trim(options);
+            String answer = correctAnswer == null ? null : correctAnswer.trim();
+            String error = validate(question, trimmedOptions, answer);
+            if (error != null) {
+                rejectRow(line, error);
+                return;
+            }
+
+            batch.add(Question.builder()
+                    .quiz(quiz)
+                    .question(question.trim())
+                    .options(optionsWriter.writeValueAsString(trimmedOptions))
+                    .correctAnswer(answer)
+                    .build());
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void reject(int line, String message) {
+            rowsRead++;
+            rejectRow(line, message);
+        }
+
+        private void rejectRow(int line, String message) {
+            rejected++;
+            rejectedRows.increment();
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new QuestionImportError(line, message));
+            }
+        }
+
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            transactionTemplate.executeWithoutResult(status -> questionRepository.insertAll(batch));
+            batches++;
+            imported += batch.size();
+            importedRows.increment(batch.size());
+            batch.clear();
+
+            if (batches % PROGRESS_EVERY_BATCHES == 0) {
+                log.info("Importing into quiz {}: {} rows read, {} imported, {} rejected",
+                        quiz.getId(), rowsRead, imported, rejected);
+            }
+        }
+
+        long elapsedMs() {
+            return (System.nanoTime() - startNanos) / 1_000_000;
+        }
+
+        QuestionImportReport report() {
+            return QuestionImportReport.builder()
+                    .quizId(quiz.getId())
+                    .rowsRead(rowsRead)
+                    .imported(imported)
+                    .rejected(rejected)
+                    .batches(batches)
+                    .durationMs(elapsedMs())
+                    .errors(errors)
+                    .errorsTruncated(rejected > errors.size())
+                    .build();
+        }
+    }
+}
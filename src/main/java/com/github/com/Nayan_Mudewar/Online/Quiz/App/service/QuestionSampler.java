@@ -0,0 +1,51 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.service;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Draws k distinct indices out of [0, n) in O(k) time using Floyd's sampling algorithm,
+ * followed by a Fisher-Yates shuffle of the k picks so the returned order is uniform too.
+ * Uses the caller's {@link ThreadLocalRandom}, so concurrent callers never contend on a lock.
+ */
+public final class QuestionSampler {
+
+    private QuestionSampler() {
+    }
+
+    public static int[] sampleIndices(int n, int k) {
+        return sampleIndices(n, k, ThreadLocalRandom.current());
+    }
+
+    static int[] sampleIndices(int n, int k, Random random) {
+        if (k < 0 || k > n) {
+            throw new IllegalArgumentException("Cannot sample " + k + " of " + n + " elements");
+        }
+
+        int[] picked = new int[k];
+        int count = 0;
+        for (int j = n - k; j < n; j++) {
+            int candidate = random.nextInt(j + 1);
+            picked[count] = contains(picked, count, candidate) ? j : candidate;
+            count++;
+        }
+
+        for (int i = k - 1; i > 0; i--) {
+            int swap = random.nextInt(i + 1);
+            int tmp = picked[i];
+            picked[i] = picked[swap];
+            picked[swap] = tmp;
+        }
+        return picked;
+    }
+
+    // k is tiny (10 per attempt), so a linear scan beats hashing and allocates nothing
+    private static boolean contains(int[] values, int length, int value) {
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,147 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.service;
+
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuizCatalogPage;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuizSummary;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.event.AttemptRecordedEvent;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.event.QuizContentChangedEvent;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.exception.BadRequestException;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.exception.ResourceNotFoundException;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.QuizRepository;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.projection.QuizSummaryRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory snapshot of all quizzes with their question and attempt counts, loaded with one
+ * aggregate query. Quiz or question changes drop the snapshot and the next read reloads it;
+ * submitted attempts only bump the attempt counter of their quiz.
+ */
+@Component
+@RequiredArgsConstructor
+public class QuizCatalog {
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final QuizRepository quizRepository;
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Map<Long, Entry> entries;
+
+    public QuizCatalogPage getPage(String category, int page, int size) {
+        if (page < 0) {
+            throw new BadRequestException("Page must not be negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        List<Entry> matching = new ArrayList<>();
+        for (Entry entry : snapshot().values()) {
+            if (category == null || category.isBlank() || entry.category().equalsIgnoreCase(category)) {
+                matching.add(entry);
+            }
+        }
+
+        int from = (int) Math.min((long) page * size, matching.size());
+        int to = Math.min(from + size, matching.size());
+        List<QuizSummary> quizzes = new ArrayList<>(to - from);
+        for (Entry entry : matching.subList(from, to)) {
+            quizzes.add(entry.toSummary());
+        }
+
+        return QuizCatalogPage.builder()
+                .quizzes(quizzes)
+                .page(page)
+                .size(size)
+                .totalQuizzes(matching.size())
+                .build();
+    }
+
+    public QuizSummary getSummary(Long quizId) {
+        Entry entry = snapshot().get(quizId);
+        if (entry == null) {
+            throw new ResourceNotFoundException("Quiz not found with id: " + quizId);
+        }
+        return entry.toSummary();
+    }
+
+    public void invalidate() {
+        generation.incrementAndGet();
+        entries = null;
+    }
+
+    @Order(0) // Before ResourceVersions publishes a new version
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuizContentChanged(QuizContentChangedEvent event) {
+        invalidate();
+    }
+
+    // An attempt committed while a reload is in flight may be counted twice or not at all
+    // until the next reload; the counts are informational
+    @Order(0) // Before ResourceVersions publishes a new version
+    @TransactionalEventListener
+    public void onAttemptRecorded(AttemptRecordedEvent event) {
+        Map<Long, Entry> current = entries;
+        if (current != null) {
+            Entry entry = current.get(event.quizId());
+            if (entry != null) {
+                entry.attempts().incrementAndGet();
+            }
+        }
+    }
+
+    private Map<Long, Entry> snapshot() {
+        Map<Long, Entry> current = entries;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            current = entries;
+            if (current != null) {
+                return current;
+            }
+            long loadedGeneration = generation.get();
+            Map<Long, Entry> loaded = load();
+            entries = loaded;
+            // An invalidation that landed while loading may predate what we read; drop it again
+            if (generation.get() != loadedGeneration) {
+                entries = null;
+            }
+            return loaded;
+        }
+    }
+
+    private Map<Long, Entry> load() {
+        Map<Long, Entry> loaded = new LinkedHashMap<>();
+        for (QuizSummaryRow row : quizRepository.findSummaries()) {
+            loaded.put(row.quizId(), new Entry(
+                    row.quizId(),
+                    row.title(),
+                    row.category(),
+                    row.questionCount().intValue(),
+                    new AtomicLong(row.attemptCount())));
+        }
+        return loaded;
+    }
+
+    private record Entry(Long id, String title, String category, int questionCount, AtomicLong attempts) {
+
+        QuizSummary toSummary() {
+            return QuizSummary.builder()
+                    .id(id)
+                    .title(title)
+                    .category(category)
+                    .questionCount(questionCount)
+                    .attemptCount(attempts.get())
+                    .build();
+        }
+    }
+}
@@ -1,82 +1,46 @@
 package com.github.com.Nayan_Mudewar.Online.Quiz.App.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuestionDto;
-import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuizStartResponse;
-import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Question;
-import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Quiz;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuizCatalogPage;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuizSummary;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.exception.BadRequestException;
-import com.github.com.Nayan_Mudewar.Online.Quiz.App.exception.ResourceNotFoundException;
-import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.QuestionRepository;
-import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.QuizRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class QuizService {
 
-    private final QuizRepository quizRepository;
-    private final QuestionRepository questionRepository;
-    private final ObjectMapper objectMapper;
+    private final QuizCatalog quizCatalog;
+    private final QuestionBankCache questionBankCache;
 
-    @Transactional(readOnly = true)
-    public QuizStartResponse startQuiz(Long quizId) {
-        Quiz quiz = quizRepository.findById(quizId)
-                .orElseThrow(() -> new ResourceNotFoundException("Quiz not found with id: " + quizId));
+    // Served entirely from the cached question bank's pre-rendered fragments; only a cache miss
+    // touches the database
+    @Timed(value = "quiz.start", description = "Question sampling for a quiz start", histogram = true)
+    public StartPayload.Selection startQuizPayload(Long quizId) {
+        QuestionBank bank = startableBank(quizId);
+        return bank.getStartPayload().select(bank.sampleIndices(10));
+    }
 
-        List<Question> randomQuestions = questionRepository.findRandomQuestionsByQuizId(quizId);
+    private QuestionBank startableBank(Long quizId) {
+        QuestionBank bank = questionBankCache.getBank(quizId);
 
-        if (randomQuestions.isEmpty()) {
+        if (bank.size() == 0) {
             throw new BadRequestException("No questions available for this quiz");
         }
 
-        if (randomQuestions.size() < 10) {
-            throw new BadRequestException("Quiz must have at least 10 questions. Current: " + randomQuestions.size());
-        }
-
-        List<QuestionDto> questionDtos = randomQuestions.stream()
-                .map(this::convertToQuestionDto)
-                .collect(Collectors.toList());
-
-        return QuizStartResponse.builder()
-                .quizId(quiz.getId())
-                .title(quiz.getTitle())
-                .category(quiz.getCategory())
-                .questions(questionDtos)
-                .build();
-    }
-
-    private QuestionDto convertToQuestionDto(Question question) {
-        try {
-            List<String> options = objectMapper.readValue(
-                    question.getOptions(),
-                    new TypeReference<List<String>>() {}
-            );
-
-            return QuestionDto.builder()
-                    .id(question.getId())
-                    .question(question.getQuestion())
-                    .options(options)
-                    .build();
-        } catch (Exception e) {
-            throw new BadRequestException("Error parsing question options: " + e.getMessage());
+        if (bank.size() < 10) {
+            throw new BadRequestException("Quiz must have at least 10 questions. Current: " + bank.size());
         }
+        return bank;
     }
 
-    @Transactional(readOnly = true)
-    public List<Quiz> getAllQuizzes() {
-        return quizRepository.findAll();
+    // Summaries come from the in-memory catalog; entities are never serialized
+    public QuizCatalogPage getAllQuizzes(String category, int page, int size) {
+        return quizCatalog.getPage(category, page, size);
     }
 
-    @Transactional(readOnly = true)
-    public Quiz getQuizById(Long quizId) {
-        return quizRepository.findById(quizId)
-                .orElseThrow(() -> new ResourceNotFoundException("Quiz not found with id: " + quizId));
+    public QuizSummary getQuizById(Long quizId) {
+        return quizCatalog.getSummary(quizId);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,81 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.service;
+
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.event.AttemptRecordedEvent;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.event.QuizContentChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version counters behind the ETags of leaderboard and catalog responses. Counters are bumped
+ * after the change has committed and after the in-memory views have applied it, so a response
+ * is never tagged with a version newer than its content. Read the ETag before building the body.
+ * <p>
+ * Submits change the catalog only through its attempt counts, so they move the catalog tag at
+ * most once per {@code quiz.catalog.attempt-count-refresh-ms}; otherwise every catalog poll
+ * during an exam would miss. Quiz content changes move it at once.
+ */
+@Component
+public class ResourceVersions {
+
+    // Counters restart at zero, so tags from a previous run must not match
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+    private final Map<Long, AtomicLong> leaderboards = new ConcurrentHashMap<>();
+    private final AtomicLong catalog = new AtomicLong();
+    private final AtomicBoolean attemptCountsChanged = new AtomicBoolean();
+    private volatile long catalogTaggedAt = System.nanoTime();
+
+    @Value("${quiz.catalog.attempt-count-refresh-ms:30000}")
+    private long attemptCountRefreshMs;
+
+    public String leaderboardETag(Long quizId) {
+        AtomicLong version = leaderboards.get(quizId);
+        return tag("lb", version == null ? 0 : version.get());
+    }
+
+    public String catalogETag() {
+        if (attemptCountsChanged.get()
+                && System.nanoTime() - catalogTaggedAt >= TimeUnit.MILLISECONDS.toNanos(attemptCountRefreshMs)
+                && attemptCountsChanged.compareAndSet(true, false)) {
+            bumpCatalog();
+        }
+        return tag("qc", catalog.get());
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onAttemptRecorded(AttemptRecordedEvent event) {
+        bumpLeaderboard(event.quizId());
+        attemptCountsChanged.set(true);
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onQuizContentChanged(QuizContentChangedEvent event) {
+        bumpLeaderboard(event.quizId()); // The leaderboard carries the quiz title
+        attemptCountsChanged.set(false);
+        bumpCatalog();
+    }
+
+    private void bumpCatalog() {
+        catalogTaggedAt = System.nanoTime();
+        catalog.incrementAndGet();
+    }
+
+    private void bumpLeaderboard(Long quizId) {
+        leaderboards.computeIfAbsent(quizId, id -> new AtomicLong()).incrementAndGet();
+    }
+
+    private String tag(String resource, long version) {
+        return "\"" + resource + "-" + epoch + "-" + version + "\"";
+    }
+}
@@ -0,0 +1,173 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuestionDto;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuizStartResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * A quiz's start response pre-rendered in pieces: the envelope up to the questions array, one
+ * JSON fragment per question, the separator and the closing brackets. A response is the
+ * concatenation of the pieces for the sampled questions, byte-identical to serializing the
+ * equivalent {@link QuizStartResponse}.
+ *
+ * <p>Each piece is also deflated once, on its own and sync-flushed, so it ends on a byte boundary
+ * with no references into other pieces. Any sequence of them is therefore a valid deflate stream
+ * once a final empty block is appended; a gzip response only adds a header and a CRC32/length
+ * trailer computed over the plain fragments.
+ */
+public final class StartPayload {
+
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    // BFINAL=1, fixed Huffman, immediately end-of-block
+    private static final byte[] FINAL_EMPTY_BLOCK = {0x03, 0x00};
+    private static final int GZIP_TRAILER_LENGTH = 8;
+
+    private final Fragment header;
+    private final Fragment separator;
+    private final Fragment footer;
+    private final Fragment[] questions;
+
+    private StartPayload(Fragment header, Fragment separator, Fragment footer, Fragment[] questions) {
+        this.header = header;
+        this.separator = separator;
+        this.footer = footer;
+        this.questions = questions;
+    }
+
+    public static StartPayload render(ObjectMapper objectMapper, Long quizId, String title, String category,
+                                      List<QuestionDto> questions) {
+        try {
+            // The envelope is the serialized response with an empty question list, cut before "]}"
+            String envelope = objectMapper.writeValueAsString(QuizStartResponse.builder()
+                    .quizId(quizId)
+                    .title(title)
+                    .category(category)
+                    .questions(List.of())
+                    .build());
+            if (!envelope.endsWith("[]}")) {
+                throw new IllegalStateException("Questions must be the last field of a start response: " + envelope);
+            }
+
+            Fragment[] rendered = new Fragment[questions.size()];
+            for (int i = 0; i < rendered.length; i++) {
+                rendered[i] = Fragment.of(objectMapper.writeValueAsBytes(questions.get(i)));
+            }
+            return new StartPayload(
+                    Fragment.of(envelope.substring(0, envelope.length() - 2).getBytes(StandardCharsets.UTF_8)),
+                    Fragment.of(new byte[]{','}),
+                    Fragment.of(new byte[]{']', '}'}),
+                    rendered);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not render start payload for quiz " + quizId, e);
+        }
+    }
+
+    int size() {
+        return questions.length;
+    }
+
+    public Selection select(int[] questionIndices) {
+        return new Selection(questionIndices.clone());
+    }
+
+    /**
+     * One response: the envelope around the questions at the given bank indices, in that order.
+     */
+    public final class Selection {
+
+        private final int[] indices;
+
+        private Selection(int[] indices) {
+            this.indices = indices;
+        }
+
+        public int jsonLength() {
+            int length = header.json.length + footer.json.length + separator.json.length * Math.max(indices.length - 1, 0);
+            for (int index : indices) {
+                length += questions[index].json.length;
+            }
+            return length;
+        }
+
+        public int gzipLength() {
+            int length = GZIP_HEADER.length + header.deflated.length + footer.deflated.length
+                    + separator.deflated.length * Math.max(indices.length - 1, 0)
+                    + FINAL_EMPTY_BLOCK.length + GZIP_TRAILER_LENGTH;
+            for (int index : indices) {
+                length += questions[index].deflated.length;
+            }
+            return length;
+        }
+
+        public void writeJson(OutputStream out) throws IOException {
+            out.write(header.json);
+            for (int i = 0; i < indices.length; i++) {
+                if (i > 0) {
+                    out.write(separator.json);
+                }
+                out.write(questions[indices[i]].json);
+            }
+            out.write(footer.json);
+        }
+
+        public void writeGzip(OutputStream out) throws IOException {
+            CRC32 crc = new CRC32();
+            out.write(GZIP_HEADER);
+            int length = writeDeflated(header, out, crc);
+            for (int i = 0; i < indices.length; i++) {
+                if (i > 0) {
+                    length += writeDeflated(separator, out, crc);
+                }
+                length += writeDeflated(questions[indices[i]], out, crc);
+            }
+            length += writeDeflated(footer, out, crc);
+            out.write(FINAL_EMPTY_BLOCK);
+            writeIntLittleEndian(out, (int) crc.getValue());
+            writeIntLittleEndian(out, length);
+        }
+    }
+
+    // The checksum covers the uncompressed bytes; CRC32 is cheap next to compressing them
+    private static int writeDeflated(Fragment fragment, OutputStream out, CRC32 crc) throws IOException {
+        out.write(fragment.deflated);
+        crc.update(fragment.json);
+        return fragment.json.length;
+    }
+
+    private static void writeIntLittleEndian(OutputStream out, int value) throws IOException {
+        out.write(value);
+        out.write(value >>> 8);
+        out.write(value >>> 16);
+        out.write(value >>> 24);
+    }
+
+    private record Fragment(byte[] json, byte[] deflated) {
+
+        static Fragment of(byte[] json) {
+            Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+            try {
+                deflater.setInput(json);
+                ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 2 + 16);
+                byte[] buffer = new byte[Math.max(64, json.length + 16)];
+                int written;
+                // SYNC_FLUSH without finish(): byte-aligned and not marked as the last block
+                do {
+                    written = deflater.deflate(buffer, 0, buffer.length, Deflater.SYNC_FLUSH);
+                    out.write(buffer, 0, written);
+                } while (written == buffer.length);
+                return new Fragment(json, out.toByteArray());
+            } finally {
+                deflater.end();
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.benchmark;
+
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Question;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.service.AnswerKey;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.service.QuestionSampler;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grades one 10-answer submission the old way (load the answered questions by id, check their
+ * quiz, compare answers) against a lookup loop over the compiled {@link AnswerKey}. The old path
+ * runs against an in-memory H2 database.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class GradingBenchmark {
+
+    private static final long QUIZ_ID = 1L;
+
+    @Param({"100", "10000"})
+    public int questionCount;
+
+    private Connection connection;
+    private PreparedStatement fetchByIds;
+    private AnswerKey answerKey;
+    private Map<Long, String> answers;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:grading" + questionCount + ";DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE questions (
+                        id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                        quiz_id BIGINT NOT NULL,
+                        question TEXT NOT NULL,
+                        options TEXT NOT NULL,
+                        correct_answer VARCHAR(255) NOT NULL)
+                    """);
+        }
+
+        List<Question> questions = new ArrayList<>(questionCount);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO questions (id, quiz_id, question, options, correct_answer) VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= questionCount; i++) {
+                String text = "Question " + i + " with a realistically long body of text to read back";
+                insert.setLong(1, i);
+                insert.setLong(2, QUIZ_ID);
+                insert.setString(3, text);
+                insert.setString(4, "[\"Alpha\",\"Beta\",\"Gamma\",\"Delta\"]");
+                insert.setString(5, "Alpha");
+                insert.addBatch();
+                questions.add(Question.builder().id((long) i).question(text).correctAnswer("Alpha").build());
+            }
+            insert.executeBatch();
+        }
+        answerKey = AnswerKey.compile(questions);
+
+        // One submission: 10 distinct questions, roughly half answered correctly
+        answers = new HashMap<>();
+        int[] picked = QuestionSampler.sampleIndices(questionCount, 10);
+        for (int i = 0; i < picked.length; i++) {
+            answers.put((long) picked[i] + 1, i % 2 == 0 ? "alpha" : "Beta");
+        }
+
+        fetchByIds = connection.prepareStatement(
+                "SELECT * FROM questions WHERE id IN (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public int loadQuestionsAndGrade() throws SQLException {
+        int parameter = 1;
+        for (Long questionId : answers.keySet()) {
+            fetchByIds.setLong(parameter++, questionId);
+        }
+
+        int score = 0;
+        try (ResultSet rs = fetchByIds.executeQuery()) {
+            while (rs.next()) {
+                if (rs.getLong("quiz_id") != QUIZ_ID) {
+                    throw new IllegalStateException("Question from another quiz");
+                }
+                rs.getString("question");
+                rs.getString("options");
+                if (rs.getString("correct_answer").equalsIgnoreCase(answers.get(rs.getLong("id")))) {
+                    score++;
+                }
+            }
+        }
+        return score;
+    }
+
+    @Benchmark
+    public int gradeWithAnswerKey() {
+        int score = 0;
+        for (Map.Entry<Long, String> answer : answers.entrySet()) {
+            int index = answerKey.indexOf(answer.getKey());
+            if (index < 0) {
+                throw new IllegalStateException("Question from another quiz");
+            }
+            if (answerKey.isCorrect(index, answer.getValue())) {
+                score++;
+            }
+        }
+        return score;
+    }
+}
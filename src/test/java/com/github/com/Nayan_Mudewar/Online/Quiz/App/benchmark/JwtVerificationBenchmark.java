@@ -0,0 +1,93 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.benchmark;
+
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.config.JwtClaims;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.config.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request JWT authentication cost: the previous path (signing key rebuilt and the token
+ * parsed three times) against a single parse, and against a repeat token served from the cache.
+ * Issuing a token, paid once per login, is measured alongside.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "5367566B59703373367639792F423F4528482B4D6251655468576D5A71347437";
+
+    private JwtUtil cachedJwtUtil;
+    private JwtUtil uncachedJwtUtil;
+    private User user;
+    private String email;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cachedJwtUtil = jwtUtil(10_000);
+        uncachedJwtUtil = jwtUtil(0);
+        user = User.builder()
+                .id(1L)
+                .name("John Doe")
+                .email("john@example.com")
+                .build();
+        email = user.getEmail();
+        token = cachedJwtUtil.generateToken(user, List.of());
+    }
+
+    @Benchmark
+    public boolean previousTripleParse() {
+        // What one request used to cost: a parse for the username in the filter, then validateToken
+        // parsing again for the subject and once more for the expiry, rebuilding the key each time
+        String username = legacyClaims(token).getSubject();
+        boolean valid = legacyClaims(token).getSubject().equals(email)
+                && !legacyClaims(token).getExpiration().before(new Date());
+        return valid && username != null;
+    }
+
+    @Benchmark
+    public JwtClaims singleParse() {
+        return uncachedJwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public JwtClaims cachedRepeatToken() {
+        return cachedJwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cachedJwtUtil.generateToken(user, List.of());
+    }
+
+    private static Claims legacyClaims(String token) {
+        Key key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    private static JwtUtil jwtUtil(long cacheMaxSize) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 86_400_000L);
+        ReflectionTestUtils.setField(jwtUtil, "cacheMaxSize", cacheMaxSize);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+        return jwtUtil;
+    }
+}
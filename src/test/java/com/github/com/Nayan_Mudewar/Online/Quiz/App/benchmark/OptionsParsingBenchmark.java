@@ -0,0 +1,54 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuestionDto;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Question;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.service.QuestionBankCache;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.service.ServiceTestAccess;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning stored questions into {@link QuestionDto}s, dominated by parsing the options
+ * JSON column. This is what a question bank pays once per quiz when it is (re)built.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class OptionsParsingBenchmark {
+
+    @Param({"10", "1000"})
+    public int questionCount;
+
+    private QuestionBankCache questionBankCache;
+    private List<Question> questions;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Only the ObjectMapper is used by the conversion
+        questionBankCache = new QuestionBankCache(null, null, new ObjectMapper());
+        questions = new ArrayList<>(questionCount);
+        for (int i = 1; i <= questionCount; i++) {
+            questions.add(Question.builder()
+                    .id((long) i)
+                    .question("Question " + i + " with a realistically long body of text to read back")
+                    .options("[\"Option A for " + i + "\",\"Option B for " + i + "\",\"Option C for " + i + "\",\"Option D for " + i + "\"]")
+                    .correctAnswer("Option A for " + i)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public void convertAll(Blackhole blackhole) {
+        for (Question question : questions) {
+            blackhole.consume(ServiceTestAccess.convertToQuestionDto(questionBankCache, question));
+        }
+    }
+}
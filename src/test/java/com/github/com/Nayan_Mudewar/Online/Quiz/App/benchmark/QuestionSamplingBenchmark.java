@@ -0,0 +1,119 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuestionDto;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.service.AnswerKey;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.service.QuestionBank;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.service.StartPayload;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the old {@code ORDER BY RAND() LIMIT 10} question query against in-process
+ * sampling over {@link QuestionBank}, both served from the cache and followed by a fetch
+ * of only the chosen rows. Runs against an in-memory H2 database.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class QuestionSamplingBenchmark {
+
+    private static final long QUIZ_ID = 1L;
+
+    @Param({"1000", "10000"})
+    public int questionCount;
+
+    private Connection connection;
+    private PreparedStatement orderByRand;
+    private PreparedStatement fetchByIds;
+    private QuestionBank bank;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:sampling" + questionCount + ";DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE questions (
+                        id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                        quiz_id BIGINT NOT NULL,
+                        question TEXT NOT NULL,
+                        options TEXT NOT NULL,
+                        correct_answer VARCHAR(255) NOT NULL)
+                    """);
+            statement.execute("CREATE INDEX idx_questions_quiz ON questions (quiz_id)");
+        }
+
+        List<QuestionDto> questions = new ArrayList<>(questionCount);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO questions (id, quiz_id, question, options, correct_answer) VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 1; i <= questionCount; i++) {
+                insert.setLong(1, i);
+                insert.setLong(2, QUIZ_ID);
+                insert.setString(3, "Question " + i);
+                insert.setString(4, "[\"A\",\"B\",\"C\",\"D\"]");
+                insert.setString(5, "A");
+                insert.addBatch();
+                questions.add(new QuestionDto((long) i, "Question " + i, List.of("A", "B", "C", "D")));
+            }
+            insert.executeBatch();
+        }
+
+        bank = new QuestionBank(QUIZ_ID, "Benchmark Quiz", "General", AnswerKey.compile(List.of()),
+                StartPayload.render(new ObjectMapper(), QUIZ_ID, "Benchmark Quiz", "General", questions));
+        orderByRand = connection.prepareStatement(
+                "SELECT * FROM questions WHERE quiz_id = ? ORDER BY RAND() LIMIT 10");
+        fetchByIds = connection.prepareStatement(
+                "SELECT * FROM questions WHERE id IN (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void nativeOrderByRand(Blackhole blackhole) throws SQLException {
+        orderByRand.setLong(1, QUIZ_ID);
+        consume(orderByRand, blackhole);
+    }
+
+    @Benchmark
+    public StartPayload.Selection sampleFromCachedBank() {
+        return bank.getStartPayload().select(bank.sampleIndices(10));
+    }
+
+    @Benchmark
+    public void sampleThenFetchChosenRows(Blackhole blackhole) throws SQLException {
+        int[] indices = bank.sampleIndices(10);
+        for (int i = 0; i < indices.length; i++) {
+            fetchByIds.setLong(i + 1, indices[i] + 1L); // Ids were inserted as 1..questionCount
+        }
+        consume(fetchByIds, blackhole);
+    }
+
+    private static void consume(PreparedStatement statement, Blackhole blackhole) throws SQLException {
+        try (ResultSet rs = statement.executeQuery()) {
+            while (rs.next()) {
+                blackhole.consume(rs.getLong("id"));
+                blackhole.consume(rs.getString("question"));
+                blackhole.consume(rs.getString("options"));
+            }
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.benchmark;
+
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.LeaderboardEntry;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.projection.LeaderboardRow;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.service.ServiceTestAccess;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The tie-aware ranking loop behind every leaderboard response, over a page of already ordered
+ * rows. Scores are drawn from 0..10, so large pages are mostly ties.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RankingBenchmark {
+
+    @Param({"10", "100", "10000"})
+    public int rowCount;
+
+    private List<LeaderboardRow> rows;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        rows = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+            rows.add(new LeaderboardRow((long) i, "User " + i, "user" + i + "@example.com",
+                    (long) i, random.nextInt(11), start.plusSeconds(random.nextInt(86_400))));
+        }
+        rows.sort(Comparator.comparing(LeaderboardRow::score, Comparator.reverseOrder())
+                .thenComparing(LeaderboardRow::completedAt));
+    }
+
+    @Benchmark
+    public List<LeaderboardEntry> rankFirstPage() {
+        return ServiceTestAccess.rank(rows, 1, 1);
+    }
+}
@@ -0,0 +1,38 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveBCryptPasswordEncoderTest {
+
+    @Test
+    void upgradeEncoding_HashAtDifferentCost_RequestsRehashBothWays() {
+        // Arrange
+        AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(5);
+        String weaker = new BCryptPasswordEncoder(4).encode("secret");
+        String stronger = new BCryptPasswordEncoder(6).encode("secret");
+        String current = encoder.encode("secret");
+
+        // Act & Assert
+        assertTrue(encoder.upgradeEncoding(weaker));
+        assertTrue(encoder.upgradeEncoding(stronger));
+        assertFalse(encoder.upgradeEncoding(current));
+        assertFalse(encoder.upgradeEncoding("not-a-bcrypt-hash"));
+        assertTrue(encoder.matches("secret", stronger)); // Old hashes still verify
+    }
+
+    @Test
+    void calibrate_StaysWithinBounds() {
+        // Act
+        int generous = AdaptiveBCryptPasswordEncoder.calibrate(Duration.ofSeconds(10), 4, 6);
+        int impossible = AdaptiveBCryptPasswordEncoder.calibrate(Duration.ofNanos(1), 4, 6);
+
+        // Assert
+        assertEquals(6, generous);
+        assertEquals(4, impossible);
+    }
+}
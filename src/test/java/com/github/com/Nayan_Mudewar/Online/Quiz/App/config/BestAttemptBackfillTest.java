@@ -0,0 +1,88 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.config;
+
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Attempt;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.BestAttempt;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.BestAttemptId;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Quiz;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.User;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.AttemptRepository;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.BestAttemptRepository;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.QuizRepository;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:best-attempt-backfill;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class BestAttemptBackfillTest {
+
+    @Autowired
+    private BestAttemptBackfill bestAttemptBackfill;
+
+    @Autowired
+    private QuizRepository quizRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AttemptRepository attemptRepository;
+
+    @Autowired
+    private BestAttemptRepository bestAttemptRepository;
+
+    @Test
+    void backfillIfNeeded_RowsWrittenBeforeBackfill_FillsAndRaises() {
+        // Arrange - older attempts, then one user's worse submit lands before the backfill
+        Quiz quiz = quizRepository.save(Quiz.builder().title("Backfill Quiz").category("General").build());
+        User early = user("early");
+        User untouched = user("untouched");
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 12, 0);
+        Attempt earlyBest = attempt(early, quiz, 9, start);
+        Attempt untouchedBest = attempt(untouched, quiz, 7, start.plusMinutes(1));
+        Attempt earlyLate = attempt(early, quiz, 3, start.plusDays(1));
+        attemptRepository.insertAll(List.of(earlyBest, untouchedBest, attempt(untouched, quiz, 7, start.plusMinutes(2)), earlyLate));
+        bestAttemptRepository.save(BestAttempt.builder()
+                .id(new BestAttemptId(quiz.getId(), early.getId()))
+                .score(3)
+                .completedAt(earlyLate.getCompletedAt())
+                .attemptId(earlyLate.getId())
+                .build());
+
+        // Act
+        bestAttemptBackfill.backfillIfNeeded();
+
+        // Assert
+        BestAttempt raised = bestAttemptRepository.findById(new BestAttemptId(quiz.getId(), early.getId())).orElseThrow();
+        BestAttempt filled = bestAttemptRepository.findById(new BestAttemptId(quiz.getId(), untouched.getId())).orElseThrow();
+        assertEquals(9, raised.getScore());
+        assertEquals(earlyBest.getId(), raised.getAttemptId());
+        assertEquals(7, filled.getScore());
+        assertEquals(untouchedBest.getId(), filled.getAttemptId());
+    }
+
+    private User user(String name) {
+        return userRepository.save(User.builder()
+                .name(name)
+                .email(name + "-backfill@example.com")
+                .password("password")
+                .build());
+    }
+
+    private Attempt attempt(User user, Quiz quiz, int score, LocalDateTime completedAt) {
+        return Attempt.builder()
+                .user(user)
+                .quiz(quiz)
+                .score(score)
+                .completedAt(completedAt)
+                .build();
+    }
+}
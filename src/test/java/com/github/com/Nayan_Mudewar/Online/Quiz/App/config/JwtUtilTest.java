@@ -0,0 +1,91 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.config;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.User;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "5367566B59703373367639792F423F4528482B4D6251655468576D5A71347437";
+
+    private JwtUtil jwtUtil;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = jwtUtil(86_400_000L);
+        user = User.builder()
+                .id(1L)
+                .name("John Doe")
+                .email("john@example.com")
+                .password("encodedPassword")
+                .build();
+    }
+
+    @Test
+    void verify_ValidToken_ReturnsUserClaims() {
+        // Arrange
+        String token = jwtUtil.generateToken(user, List.of(new SimpleGrantedAuthority("ROLE_USER")));
+
+        // Act
+        JwtClaims claims = jwtUtil.verify(token);
+
+        // Assert
+        assertEquals("john@example.com", claims.subject());
+        assertEquals(1L, claims.userId());
+        assertEquals("John Doe", claims.name());
+        assertEquals(List.of("ROLE_USER"), claims.authorities());
+        assertFalse(claims.isExpired());
+    }
+
+    @Test
+    void verify_RepeatToken_ServedFromCache() {
+        // Arrange
+        String token = jwtUtil.generateToken(user, List.of());
+
+        // Act
+        JwtClaims first = jwtUtil.verify(token);
+        JwtClaims second = jwtUtil.verify(token);
+
+        // Assert
+        assertSame(first, second);
+    }
+
+    @Test
+    void verify_TamperedToken_ThrowsException() {
+        // Arrange
+        String token = jwtUtil.generateToken(user, List.of());
+        int signatureStart = token.lastIndexOf('.') + 1;
+        char first = token.charAt(signatureStart);
+        String tampered = token.substring(0, signatureStart) + (first == 'A' ? 'B' : 'A') + token.substring(signatureStart + 1);
+
+        // Act & Assert
+        assertThrows(JwtException.class, () -> jwtUtil.verify(tampered));
+    }
+
+    @Test
+    void verify_ExpiredToken_ThrowsException() {
+        // Arrange
+        String token = jwtUtil(-1_000L).generateToken(user, List.of());
+
+        // Act & Assert
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.verify(token));
+    }
+
+    private static JwtUtil jwtUtil(long expiration) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", expiration);
+        ReflectionTestUtils.setField(jwtUtil, "cacheMaxSize", 100L);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+}
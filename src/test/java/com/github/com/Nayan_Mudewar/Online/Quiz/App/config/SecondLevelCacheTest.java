@@ -0,0 +1,45 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.config;
+
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Quiz;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.event.QuizContentChangedEvent;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.QuizRepository;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.support.QueryCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:second-level-cache;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import(QueryCounter.Config.class)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private QuizRepository quizRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    void findById_ServedFromCacheUntilQuizContentChanges() {
+        // Arrange
+        Long quizId = quizRepository.save(Quiz.builder().title("Cached Quiz").category("General").build()).getId();
+        quizRepository.findById(quizId);
+
+        // Act
+        long cached = QueryCounter.statementsFor(() -> quizRepository.findById(quizId));
+        eventPublisher.publishEvent(new QuizContentChangedEvent(quizId));
+        long afterEviction = QueryCounter.statementsFor(() -> quizRepository.findById(quizId));
+        long reloaded = QueryCounter.statementsFor(() -> assertEquals("Cached Quiz", quizRepository.findById(quizId).orElseThrow().getTitle()));
+
+        // Assert
+        assertEquals(0, cached);
+        assertEquals(1, afterEviction);
+        assertEquals(0, reloaded);
+    }
+}
@@ -0,0 +1,28 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SqlStatementCounterTest {
+
+    @Test
+    void inspect_CountsPerThreadUntilReset() throws Exception {
+        // Arrange
+        SqlStatementCounter counter = new SqlStatementCounter();
+        SqlStatementCounter.reset();
+
+        // Act
+        String sql = counter.inspect("select 1");
+        counter.inspect("select 2");
+        Thread other = new Thread(() -> counter.inspect("select 3"));
+        other.start();
+        other.join();
+
+        // Assert
+        assertEquals("select 1", sql);
+        assertEquals(2, SqlStatementCounter.current());
+        SqlStatementCounter.reset();
+        assertEquals(0, SqlStatementCounter.current());
+    }
+}
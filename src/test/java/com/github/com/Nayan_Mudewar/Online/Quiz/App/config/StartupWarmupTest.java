@@ -0,0 +1,124 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.config;
+
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuizCatalogPage;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuizSummary;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.service.LeaderboardEngine;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.service.QuestionBankCache;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.service.QuizCatalog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StartupWarmupTest {
+
+    @Mock
+    private DataLoader dataLoader;
+
+    @Mock
+    private BestAttemptBackfill bestAttemptBackfill;
+
+    @Mock
+    private LeaderboardEngine leaderboardEngine;
+
+    @Mock
+    private QuizCatalog quizCatalog;
+
+    @Mock
+    private QuestionBankCache questionBankCache;
+
+    private StartupWarmup startupWarmup;
+
+    @BeforeEach
+    void setUp() {
+        startupWarmup = new StartupWarmup(dataLoader, bestAttemptBackfill, leaderboardEngine, quizCatalog,
+                questionBankCache, ApplicationStartup.DEFAULT);
+    }
+
+    @Test
+    void onStarted_Background_OutOfServiceUntilWarm() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(startupWarmup, "background", true);
+        CountDownLatch seeding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            seeding.countDown();
+            release.await();
+            return null;
+        }).when(dataLoader).loadIfEmpty();
+
+        // Act
+        startupWarmup.onStarted();
+
+        // Assert
+        assertTrue(seeding.await(5, TimeUnit.SECONDS));
+        assertEquals(Status.OUT_OF_SERVICE, startupWarmup.health().getStatus());
+        assertEquals("seed", startupWarmup.health().getDetails().get("phase"));
+
+        release.countDown();
+        verify(leaderboardEngine, timeout(5000)).rebuild();
+        awaitStatus(Status.UP);
+        verify(bestAttemptBackfill).backfillIfNeeded();
+        verifyNoInteractions(quizCatalog, questionBankCache);
+    }
+
+    @Test
+    void onStarted_BackgroundFailure_ReportsDown() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(startupWarmup, "background", true);
+        doThrow(new IllegalStateException("database unavailable")).when(bestAttemptBackfill).backfillIfNeeded();
+
+        // Act
+        startupWarmup.onStarted();
+
+        // Assert
+        awaitStatus(Status.DOWN);
+        assertEquals("backfill", startupWarmup.health().getDetails().get("phase"));
+        verifyNoInteractions(leaderboardEngine);
+    }
+
+    @Test
+    void onStarted_Inline_WarmsEveryQuestionBankBeforeReturning() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(startupWarmup, "warmCaches", true);
+        when(quizCatalog.getPage(null, 0, 100)).thenReturn(page(List.of(summary(1L), summary(2L))));
+        when(quizCatalog.getPage(null, 1, 100)).thenReturn(page(List.of()));
+
+        // Act
+        startupWarmup.onStarted();
+
+        // Assert
+        assertEquals(Status.UP, startupWarmup.health().getStatus());
+        verify(questionBankCache).getBank(1L);
+        verify(questionBankCache).getBank(2L);
+        verify(dataLoader).loadIfEmpty();
+    }
+
+    private void awaitStatus(Status status) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!startupWarmup.health().getStatus().equals(status) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(status, startupWarmup.health().getStatus());
+    }
+
+    private static QuizCatalogPage page(List<QuizSummary> quizzes) {
+        return QuizCatalogPage.builder().quizzes(quizzes).page(0).size(100).totalQuizzes(quizzes.size()).build();
+    }
+
+    private static QuizSummary summary(Long id) {
+        return QuizSummary.builder().id(id).title("Quiz " + id).category("General").build();
+    }
+}
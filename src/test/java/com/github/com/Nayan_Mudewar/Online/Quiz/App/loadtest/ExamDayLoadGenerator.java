@@ -0,0 +1,338 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.OnlineQuizAppApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Exam-day load generator. Boots the app on an in-memory H2 database, registers and logs in
+ * {@code loadtest.users} users, then drives three phases at a fixed arrival rate: an exam-start
+ * burst (everyone starts), the steady mix, and an exam-end burst (everyone submits). Latency is
+ * measured from each request's scheduled send time, so a saturated server shows up as queueing
+ * instead of a quietly lower request rate.
+ *
+ * <pre>
+ * mvn test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.github.com.Nayan_Mudewar.Online.Quiz.App.loadtest.ExamDayLoadGenerator \
+ *     -Dloadtest.users=500 -Dloadtest.rate=400
+ * </pre>
+ *
+ * Settings (system properties): {@code loadtest.users} (200), {@code loadtest.clients} (64),
+ * {@code loadtest.rate} steady requests/s (200), {@code loadtest.duration-seconds} steady phase (30),
+ * {@code loadtest.burst-seconds} each burst (5, 0 disables), {@code loadtest.burst-multiplier} burst
+ * rate over steady (5), {@code loadtest.mix} steady weights (start=30,submit=20,leaderboard=40,attempts=10).
+ * Any {@code spring.*} or {@code quiz.*} system property is passed to the app as usual.
+ */
+public class ExamDayLoadGenerator {
+
+    enum Endpoint { START, SUBMIT, LEADERBOARD, ATTEMPTS }
+
+    private static final String PASSWORD = "loadtest-password";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient http = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final String baseUrl;
+    private final List<String> tokens = new ArrayList<>();
+    private final List<Long> quizIds = new ArrayList<>();
+    // A valid answer sheet per quiz; grading only needs the questions to belong to the quiz
+    private final Map<Long, List<Long>> questionIds = new ConcurrentHashMap<>();
+
+    ExamDayLoadGenerator(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public static void main(String[] args) throws Exception {
+        int users = Integer.getInteger("loadtest.users", 200);
+        int clients = Integer.getInteger("loadtest.clients", 64);
+        int rate = Integer.getInteger("loadtest.rate", 200);
+        int durationSeconds = Integer.getInteger("loadtest.duration-seconds", 30);
+        int burstSeconds = Integer.getInteger("loadtest.burst-seconds", 5);
+        int burstMultiplier = Integer.getInteger("loadtest.burst-multiplier", 5);
+        Map<Endpoint, Integer> mix = parseMix(System.getProperty("loadtest.mix", "start=30,submit=20,leaderboard=40,attempts=10"));
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(OnlineQuizAppApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.springframework.security=WARN")
+                .run(args);
+
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        try {
+            String port = context.getEnvironment().getProperty("local.server.port");
+            ExamDayLoadGenerator generator = new ExamDayLoadGenerator("http://localhost:" + port + "/api");
+            generator.setUp(users, pool);
+
+            if (burstSeconds > 0) {
+                generator.runPhase("exam start", Map.of(Endpoint.START, 1), rate * burstMultiplier, burstSeconds, pool);
+            }
+            generator.runPhase("steady", mix, rate, durationSeconds, pool);
+            if (burstSeconds > 0) {
+                generator.runPhase("exam end", Map.of(Endpoint.SUBMIT, 1), rate * burstMultiplier, burstSeconds, pool);
+            }
+        } finally {
+            pool.shutdownNow();
+            context.close();
+        }
+    }
+
+    private void setUp(int users, ExecutorService pool) throws Exception {
+        long start = System.nanoTime();
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        List<Future<String>> registrations = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            String email = "load-" + runId + "-" + i + "@example.com";
+            String body = objectMapper.writeValueAsString(Map.of("name", "Load User " + i, "email", email, "password", PASSWORD));
+            registrations.add(pool.submit(() -> {
+                send("/auth/register", body, null);
+                String login = objectMapper.writeValueAsString(Map.of("email", email, "password", PASSWORD));
+                return objectMapper.readTree(send("/auth/login", login, null)).get("token").asText();
+            }));
+        }
+        for (Future<String> registration : registrations) {
+            tokens.add(registration.get());
+        }
+
+        for (JsonNode quiz : objectMapper.readTree(send("/quizzes?size=100", null, tokens.get(0))).get("quizzes")) {
+            long quizId = quiz.get("id").asLong();
+            quizIds.add(quizId);
+            recordQuestions(quizId, send("/quizzes/" + quizId + "/start", null, tokens.get(0)));
+        }
+        System.out.printf("Registered and logged in %d users, %d quizzes, in %d ms%n",
+                users, quizIds.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private void runPhase(String name, Map<Endpoint, Integer> mix, int rate, int seconds, ExecutorService pool) throws InterruptedException {
+        Map<Endpoint, Recorder> recorders = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : mix.keySet()) {
+            recorders.put(endpoint, new Recorder());
+        }
+        Endpoint[] wheel = weightedWheel(mix);
+
+        GcSnapshot gcBefore = GcSnapshot.take();
+        long maxHeapUsed = 0;
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(rate, 1);
+        long total = (long) rate * seconds;
+        long phaseStart = System.nanoTime();
+
+        // Open loop: request i is due at phaseStart + i * interval whether or not earlier ones finished
+        for (long i = 0; i < total; i++) {
+            long due = phaseStart + i * intervalNanos;
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+            Endpoint endpoint = wheel[(int) (i % wheel.length)];
+            pool.execute(() -> execute(endpoint, due, recorders.get(endpoint)));
+            if ((i & 1023) == 0) {
+                maxHeapUsed = Math.max(maxHeapUsed, heapUsage().getUsed());
+            }
+        }
+        // Drain what is still queued or in flight before reporting
+        while (recorders.values().stream().mapToLong(Recorder::completed).sum() < total) {
+            maxHeapUsed = Math.max(maxHeapUsed, heapUsage().getUsed());
+            TimeUnit.MILLISECONDS.sleep(20);
+        }
+        long elapsedNanos = System.nanoTime() - phaseStart;
+
+        report(name, rate, recorders, elapsedNanos, gcBefore, maxHeapUsed);
+    }
+
+    private void execute(Endpoint endpoint, long due, Recorder recorder) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String token = tokens.get(random.nextInt(tokens.size()));
+        Long quizId = quizIds.get(random.nextInt(quizIds.size()));
+        boolean ok;
+        try {
+            switch (endpoint) {
+                case START -> recordQuestions(quizId, send("/quizzes/" + quizId + "/start", null, token));
+                case SUBMIT -> send("/quizzes/submit", submission(quizId, random), token);
+                case LEADERBOARD -> send("/quizzes/" + quizId + "/leaderboard?limit=10", null, token);
+                case ATTEMPTS -> send("/users/me/attempts?size=20", null, token);
+            }
+            ok = true;
+        } catch (Exception e) {
+            ok = false;
+        }
+        recorder.record(System.nanoTime() - due, ok);
+    }
+
+    private String submission(Long quizId, ThreadLocalRandom random) throws Exception {
+        Map<String, String> answers = new LinkedHashMap<>();
+        for (Long questionId : questionIds.get(quizId)) {
+            answers.put(questionId.toString(), random.nextBoolean() ? "A" : "B");
+        }
+        return objectMapper.writeValueAsString(Map.of("quizId", quizId, "answers", answers));
+    }
+
+    private void recordQuestions(Long quizId, String startResponse) throws Exception {
+        List<Long> ids = new ArrayList<>();
+        for (JsonNode question : objectMapper.readTree(startResponse).get("questions")) {
+            ids.add(question.get("id").asLong());
+        }
+        questionIds.put(quizId, List.copyOf(ids));
+    }
+
+    private String send(String path, String jsonBody, String token) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            request.header("Authorization", "Bearer " + token);
+        }
+        if (jsonBody != null) {
+            request.header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(jsonBody));
+        }
+        for (int attempt = 0; ; attempt++) {
+            HttpResponse<String> response = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            // The hashing pool sheds load with 503 during setup; honour it rather than failing the run
+            if (response.statusCode() == 503 && attempt < 20 && path.startsWith("/auth/")) {
+                TimeUnit.SECONDS.sleep(1);
+                continue;
+            }
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException(path + " returned " + response.statusCode());
+            }
+            return response.body();
+        }
+    }
+
+    private static void report(String phase, int rate, Map<Endpoint, Recorder> recorders, long elapsedNanos,
+                               GcSnapshot gcBefore, long maxHeapUsed) {
+        double seconds = elapsedNanos / 1e9;
+        System.out.printf("%n== %s: target %d req/s, %.1f s ==%n", phase, rate, seconds);
+        System.out.printf("%-12s %9s %8s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms", "max ms");
+        recorders.forEach((endpoint, recorder) -> {
+            long[] latencies = recorder.sortedLatencies();
+            System.out.printf("%-12s %9d %8d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint.name().toLowerCase(), latencies.length, recorder.errors(), latencies.length / seconds,
+                    millis(percentile(latencies, 0.50)), millis(percentile(latencies, 0.99)),
+                    millis(percentile(latencies, 0.999)), millis(percentile(latencies, 1.0)));
+        });
+
+        GcSnapshot gcAfter = GcSnapshot.take();
+        MemoryUsage heap = heapUsage();
+        System.out.printf("heap: peak used %d MB, committed %d MB, max %d MB; gc: %d collections, %d ms%n",
+                maxHeapUsed >> 20, heap.getCommitted() >> 20, heap.getMax() >> 20,
+                gcAfter.collections - gcBefore.collections, gcAfter.timeMillis - gcBefore.timeMillis);
+    }
+
+    private static Map<Endpoint, Integer> parseMix(String mix) {
+        Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+        for (String part : mix.split(",")) {
+            String[] pair = part.trim().split("=");
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                weights.put(Endpoint.valueOf(pair[0].trim().toUpperCase()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix has no positive weights: " + mix);
+        }
+        return weights;
+    }
+
+    // Endpoints repeated by weight and shuffled once, so the mix holds over any window
+    private static Endpoint[] weightedWheel(Map<Endpoint, Integer> mix) {
+        List<Endpoint> wheel = new ArrayList<>();
+        mix.forEach((endpoint, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                wheel.add(endpoint);
+            }
+        });
+        Collections.shuffle(wheel, new Random(42));
+        return wheel.toArray(Endpoint[]::new);
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.min(Math.max(index, 0), sorted.length - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private static MemoryUsage heapUsage() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+    }
+
+    private record GcSnapshot(long collections, long timeMillis) {
+        static GcSnapshot take() {
+            long collections = 0;
+            long time = 0;
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                collections += Math.max(gc.getCollectionCount(), 0);
+                time += Math.max(gc.getCollectionTime(), 0);
+            }
+            return new GcSnapshot(collections, time);
+        }
+    }
+
+    // All latencies of one endpoint in one phase; a phase is short enough to keep them all
+    private static final class Recorder {
+        private long[] latencies = new long[1024];
+        private int count;
+        private final AtomicLong errors = new AtomicLong();
+
+        synchronized void record(long latencyNanos, boolean ok) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (!ok) {
+                errors.incrementAndGet();
+            }
+        }
+
+        synchronized long completed() {
+            return count;
+        }
+
+        synchronized long[] sortedLatencies() {
+            long[] sorted = Arrays.copyOf(latencies, count);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+
+        long errors() {
+            return errors.get();
+        }
+    }
+}
@@ -1,5 +1,9 @@
 package com.github.com.Nayan_Mudewar.Online.Quiz.App.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.config.AuthenticatedUser;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.AttemptHistoryPage;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuestionDto;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuizSubmitRequest;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuizSubmitResponse;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Attempt;
@@ -8,17 +12,19 @@ import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Quiz;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.User;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.exception.BadRequestException;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.AttemptRepository;
-import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.QuestionRepository;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.QuizRepository;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.UserRepository;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.projection.AttemptHistoryRow;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.time.LocalDateTime;
@@ -27,6 +33,7 @@ import java.util.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,17 +46,20 @@ class AttemptServiceTest {
     private QuizRepository quizRepository;
 
     @Mock
-    private QuestionRepository questionRepository;
+    private QuestionBankCache questionBankCache;
 
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private AttemptWriter attemptWriter;
+
     @InjectMocks
     private AttemptService attemptService;
 
     private User user;
     private Quiz quiz;
-    private List<Question> questions;
+    private QuestionBank bank;
     private Map<Long, String> answers;
 
     @BeforeEach
@@ -67,7 +77,8 @@ class AttemptServiceTest {
                 .category("General")
                 .build();
 
-        questions = new ArrayList<>();
+        List<Question> questions = new ArrayList<>();
+        List<QuestionDto> questionDtos = new ArrayList<>();
         answers = new HashMap<>();
 
         for (int i = 1; i <= 10; i++) {
@@ -79,15 +90,21 @@ class AttemptServiceTest {
                     .correctAnswer("Option1")
                     .build();
             questions.add(question);
+            questionDtos.add(new QuestionDto((long) i, "Question " + i, List.of("Option1", "Option2", "Option3", "Option4")));
             answers.put((long) i, "Option1"); // All correct answers
         }
+        bank = new QuestionBank(1L, "Test Quiz", "General", AnswerKey.compile(questions),
+                StartPayload.render(new ObjectMapper(), 1L, "Test Quiz", "General", questionDtos));
+
+        // Principal as built by the JWT filter from token claims
+        AuthenticatedUser principal = new AuthenticatedUser(1L, "john@example.com", "John Doe");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
 
-        // Mock Security Context
-        Authentication authentication = mock(Authentication.class);
-        SecurityContext securityContext = mock(SecurityContext.class);
-        when(securityContext.getAuthentication()).thenReturn(authentication);
-        when(authentication.getName()).thenReturn("john@example.com");
-        SecurityContextHolder.setContext(securityContext);
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
     }
 
     @Test
@@ -95,10 +112,10 @@ class AttemptServiceTest {
         // Arrange
         QuizSubmitRequest request = new QuizSubmitRequest(1L, answers);
 
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
-        when(quizRepository.findById(anyLong())).thenReturn(Optional.of(quiz));
-        when(questionRepository.findAllById(any())).thenReturn(questions);
-        when(attemptRepository.save(any(Attempt.class))).thenAnswer(invocation -> {
+        when(userRepository.getReferenceById(anyLong())).thenReturn(user);
+        when(quizRepository.getReferenceById(anyLong())).thenReturn(quiz);
+        when(questionBankCache.getBank(anyLong())).thenReturn(bank);
+        when(attemptWriter.write(any(Attempt.class), any(AuthenticatedUser.class))).thenAnswer(invocation -> {
             Attempt attempt = invocation.getArgument(0);
             attempt.setId(1L);
             return attempt;
@@ -112,7 +129,29 @@ class AttemptServiceTest {
         assertEquals(10, response.getScore());
         assertEquals(100.0, response.getPercentage());
         assertEquals(10, response.getResults().size());
-        verify(attemptRepository, times(1)).save(any(Attempt.class));
+        assertEquals(1L, response.getAttemptId());
+        assertEquals(QuizSubmitResponse.Status.SAVED, response.getStatus());
+        verify(attemptWriter, times(1)).write(any(Attempt.class), any(AuthenticatedUser.class));
+    }
+
+    @Test
+    void submitQuiz_WriteNotConfirmedInTime_ReturnsPendingResult() {
+        // Arrange
+        QuizSubmitRequest request = new QuizSubmitRequest(1L, answers);
+
+        when(userRepository.getReferenceById(anyLong())).thenReturn(user);
+        when(quizRepository.getReferenceById(anyLong())).thenReturn(quiz);
+        when(questionBankCache.getBank(anyLong())).thenReturn(bank);
+        when(attemptWriter.write(any(Attempt.class), any(AuthenticatedUser.class))).thenThrow(new AttemptWriter.PendingException());
+
+        // Act
+        QuizSubmitResponse response = attemptService.submitQuiz(request);
+
+        // Assert
+        assertEquals(QuizSubmitResponse.Status.PENDING, response.getStatus());
+        assertNull(response.getAttemptId());
+        assertEquals(10, response.getScore());
+        assertEquals(10, response.getResults().size());
     }
 
     @Test
@@ -124,8 +163,7 @@ class AttemptServiceTest {
         }
         QuizSubmitRequest request = new QuizSubmitRequest(1L, fiveAnswers);
 
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
-        when(quizRepository.findById(anyLong())).thenReturn(Optional.of(quiz));
+        when(questionBankCache.getBank(anyLong())).thenReturn(bank);
 
         // Act & Assert
         BadRequestException exception = assertThrows(
@@ -142,10 +180,10 @@ class AttemptServiceTest {
         answers.put(2L, "WrongAnswer"); // 2 wrong
         QuizSubmitRequest request = new QuizSubmitRequest(1L, answers);
 
-        when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
-        when(quizRepository.findById(anyLong())).thenReturn(Optional.of(quiz));
-        when(questionRepository.findAllById(any())).thenReturn(questions);
-        when(attemptRepository.save(any(Attempt.class))).thenAnswer(invocation -> {
+        when(userRepository.getReferenceById(anyLong())).thenReturn(user);
+        when(quizRepository.getReferenceById(anyLong())).thenReturn(quiz);
+        when(questionBankCache.getBank(anyLong())).thenReturn(bank);
+        when(attemptWriter.write(any(Attempt.class), any(AuthenticatedUser.class))).thenAnswer(invocation -> {
             Attempt attempt = invocation.getArgument(0);
             attempt.setId(1L);
             return attempt;
@@ -158,4 +196,81 @@ class AttemptServiceTest {
         assertEquals(8, response.getScore()); // 8 correct out of 10
         assertEquals(80.0, response.getPercentage());
     }
+
+    @Test
+    void submitQuiz_QuestionFromAnotherQuiz_ThrowsException() {
+        // Arrange
+        answers.remove(10L);
+        answers.put(99L, "Option1"); // Not in this quiz's answer key
+        QuizSubmitRequest request = new QuizSubmitRequest(1L, answers);
+
+        when(questionBankCache.getBank(anyLong())).thenReturn(bank);
+
+        // Act & Assert
+        BadRequestException exception = assertThrows(
+                BadRequestException.class,
+                () -> attemptService.submitQuiz(request)
+        );
+        assertEquals("Question 99 does not belong to quiz 1", exception.getMessage());
+        verifyNoInteractions(attemptWriter);
+    }
+
+    @Test
+    void submitQuiz_AnswersCaseInsensitive_CountedCorrect() {
+        // Arrange
+        answers.put(3L, "OPTION1");
+        QuizSubmitRequest request = new QuizSubmitRequest(1L, answers);
+
+        when(userRepository.getReferenceById(anyLong())).thenReturn(user);
+        when(quizRepository.getReferenceById(anyLong())).thenReturn(quiz);
+        when(questionBankCache.getBank(anyLong())).thenReturn(bank);
+        when(attemptWriter.write(any(Attempt.class), any(AuthenticatedUser.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        QuizSubmitResponse response = attemptService.submitQuiz(request);
+
+        // Assert
+        assertEquals(10, response.getScore());
+        assertEquals("Question 3", response.getResults().stream()
+                .filter(result -> result.getQuestionId().equals(3L))
+                .findFirst().orElseThrow().getQuestion());
+    }
+
+    @Test
+    void getUserAttempts_MoreRowsThanPage_ReturnsCursorForNextPage() {
+        // Arrange
+        LocalDateTime now = LocalDateTime.of(2025, 10, 3, 21, 30);
+        List<AttemptHistoryRow> rows = List.of(
+                new AttemptHistoryRow(3L, 1L, "Test Quiz", "General", 10, now),
+                new AttemptHistoryRow(2L, 1L, "Test Quiz", "General", 7, now.minusHours(1)),
+                new AttemptHistoryRow(1L, 1L, "Test Quiz", "General", 5, now.minusHours(2)));
+        when(attemptRepository.findHistory(eq(1L), any(Pageable.class))).thenReturn(rows);
+        when(attemptRepository.findHistoryAfter(eq(1L), any(LocalDateTime.class), anyLong(), any(Pageable.class)))
+                .thenReturn(rows.subList(2, 3));
+
+        // Act
+        AttemptHistoryPage first = attemptService.getUserAttempts(null, 2);
+        AttemptHistoryPage second = attemptService.getUserAttempts(first.getNextCursor(), 2);
+
+        // Assert
+        assertEquals(2, first.getAttempts().size());
+        assertTrue(first.getHasMore());
+        assertEquals(70.0, first.getAttempts().get(1).getPercentage());
+        verify(attemptRepository).findHistory(1L, PageRequest.of(0, 3));
+        verify(attemptRepository).findHistoryAfter(1L, now.minusHours(1), 2L, PageRequest.of(0, 3));
+        assertEquals(1, second.getAttempts().size());
+        assertFalse(second.getHasMore());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void getUserAttempts_InvalidCursor_ThrowsException() {
+        // Act & Assert
+        BadRequestException exception = assertThrows(
+                BadRequestException.class,
+                () -> attemptService.getUserAttempts("not-a-cursor", 20)
+        );
+        assertEquals("Invalid cursor", exception.getMessage());
+        verifyNoInteractions(attemptRepository);
+    }
 }
@@ -0,0 +1,147 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.service;
+
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.config.AuthenticatedUser;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Attempt;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.BestAttempt;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.BestAttemptId;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Quiz;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.User;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.BestAttemptRepository;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.QuizRepository;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Races submits for the same quiz and user against a real H2, where the mocked
+ * {@link AttemptWriterTest} cannot see lost updates or duplicate best_attempts inserts.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:attempt-writer-concurrency;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class AttemptWriterConcurrencyTest {
+
+    private static final int ROUNDS = 20;
+    private static final int SUBMITTERS = 8;
+
+    @Autowired
+    private AttemptWriter attemptWriter;
+
+    @Autowired
+    private QuizRepository quizRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BestAttemptRepository bestAttemptRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ExecutorService submitters;
+    private Quiz quiz;
+
+    @BeforeEach
+    void setUp() {
+        submitters = Executors.newFixedThreadPool(SUBMITTERS);
+        quiz = quizRepository.save(Quiz.builder().title("Concurrency Quiz").category("General").build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        submitters.shutdownNow();
+    }
+
+    @Test
+    void write_ConcurrentFirstSubmits_AllSucceedAndKeepHighestScore() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            // Arrange
+            User user = user("first-" + round);
+
+            // Act
+            submitConcurrently(user);
+
+            // Assert
+            assertBest(user, SUBMITTERS);
+        }
+    }
+
+    @Test
+    void write_ConcurrentImprovingSubmits_KeepHighestScore() throws Exception {
+        for (int round = 0; round < ROUNDS; round++) {
+            // Arrange - the best_attempts row already exists, so every submit races on the update
+            User user = user("improving-" + round);
+            attemptWriter.write(attempt(user, 0), principal(user));
+
+            // Act
+            submitConcurrently(user);
+
+            // Assert
+            assertBest(user, SUBMITTERS);
+        }
+    }
+
+    // Scores 1..SUBMITTERS, released together so the best_attempts lookups overlap
+    private void submitConcurrently(User user) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Attempt>> results = new ArrayList<>();
+        for (int score = 1; score <= SUBMITTERS; score++) {
+            Attempt attempt = attempt(user, score);
+            results.add(submitters.submit(() -> {
+                start.await();
+                return attemptWriter.write(attempt, principal(user));
+            }));
+        }
+        start.countDown();
+
+        for (Future<Attempt> result : results) {
+            assertNotNull(result.get().getId());
+        }
+    }
+
+    private void assertBest(User user, int expectedScore) {
+        BestAttempt best = bestAttemptRepository.findById(new BestAttemptId(quiz.getId(), user.getId())).orElseThrow();
+        Integer bestAttemptScore = jdbcTemplate.queryForObject(
+                "SELECT score FROM attempts WHERE id = ?", Integer.class, best.getAttemptId());
+
+        assertEquals(expectedScore, best.getScore());
+        assertEquals(expectedScore, bestAttemptScore);
+    }
+
+    private User user(String name) {
+        return userRepository.save(User.builder()
+                .name(name)
+                .email(name + "@example.com")
+                .password("password")
+                .build());
+    }
+
+    private AuthenticatedUser principal(User user) {
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getName());
+    }
+
+    private Attempt attempt(User user, int score) {
+        return Attempt.builder()
+                .user(user)
+                .quiz(quiz)
+                .score(score)
+                .completedAt(LocalDateTime.now())
+                .build();
+    }
+}
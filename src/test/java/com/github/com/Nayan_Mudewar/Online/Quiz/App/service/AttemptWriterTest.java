@@ -0,0 +1,278 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.service;
+
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.config.AuthenticatedUser;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Attempt;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.BestAttempt;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.BestAttemptId;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Quiz;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.User;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.event.AttemptRecordedEvent;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.AttemptRepository;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.BestAttemptRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AttemptWriterTest {
+
+    @Mock
+    private AttemptRepository attemptRepository;
+
+    @Mock
+    private BestAttemptRepository bestAttemptRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private AttemptWriter attemptWriter;
+
+    private final AtomicLong nextId = new AtomicLong(1);
+    private AuthenticatedUser principal;
+
+    @BeforeEach
+    void setUp() {
+        principal = new AuthenticatedUser(1L, "john@example.com", "John Doe");
+
+        // Stand in for the JDBC batch insert assigning identity values
+        lenient().doAnswer(invocation -> {
+            List<Attempt> attempts = invocation.getArgument(0);
+            attempts.forEach(attempt -> attempt.setId(nextId.getAndIncrement()));
+            return null;
+        }).when(attemptRepository).insertAll(anyList());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        attemptWriter.stop();
+    }
+
+    @Test
+    void write_Synchronous_InsertsAttemptAndBestAttempt() {
+        // Arrange
+        attemptWriter.start();
+        when(bestAttemptRepository.findById(any(BestAttemptId.class))).thenReturn(Optional.empty());
+
+        // Act
+        Attempt saved = attemptWriter.write(attempt(1L, 8), principal);
+
+        // Assert
+        assertEquals(1L, saved.getId());
+        verify(attemptRepository, times(1)).insertAll(anyList());
+        verify(bestAttemptRepository, times(1)).save(any(BestAttempt.class));
+        verify(eventPublisher, times(1)).publishEvent(any(AttemptRecordedEvent.class));
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    @Test
+    void write_WorseThanBestAttempt_KeepsBestAttempt() {
+        // Arrange
+        attemptWriter.start();
+        BestAttempt best = BestAttempt.builder()
+                .id(new BestAttemptId(1L, 1L))
+                .score(10)
+                .completedAt(LocalDateTime.now().minusDays(1))
+                .attemptId(7L)
+                .newEntry(false)
+                .build();
+        when(bestAttemptRepository.findById(any(BestAttemptId.class))).thenReturn(Optional.of(best));
+
+        // Act
+        attemptWriter.write(attempt(1L, 9), principal);
+
+        // Assert
+        assertEquals(7L, best.getAttemptId());
+        verify(bestAttemptRepository, never()).save(any(BestAttempt.class));
+        verify(bestAttemptRepository, never()).improve(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void write_BetterThanBestAttempt_UpdatesConditionally() {
+        // Arrange
+        attemptWriter.start();
+        BestAttempt best = BestAttempt.builder()
+                .id(new BestAttemptId(1L, 1L))
+                .score(5)
+                .completedAt(LocalDateTime.now().minusDays(1))
+                .attemptId(7L)
+                .newEntry(false)
+                .build();
+        when(bestAttemptRepository.findById(any(BestAttemptId.class))).thenReturn(Optional.of(best));
+
+        // Act
+        Attempt saved = attemptWriter.write(attempt(1L, 9), principal);
+
+        // Assert
+        verify(bestAttemptRepository, times(1)).improve(eq(1L), eq(1L), eq(9), any(LocalDateTime.class), eq(saved.getId()));
+        verify(bestAttemptRepository, never()).save(any(BestAttempt.class));
+    }
+
+    @Test
+    void write_ConcurrentFirstInsert_RetriesAgainstExistingRow() {
+        // Arrange
+        attemptWriter.start();
+        BestAttempt concurrent = BestAttempt.builder()
+                .id(new BestAttemptId(1L, 1L))
+                .score(4)
+                .completedAt(LocalDateTime.now())
+                .attemptId(7L)
+                .newEntry(false)
+                .build();
+        when(bestAttemptRepository.findById(any(BestAttemptId.class)))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(concurrent));
+        doThrow(new DataIntegrityViolationException("duplicate key"))
+                .doNothing()
+                .when(transactionManager).commit(any());
+
+        // Act
+        attemptWriter.write(attempt(1L, 9), principal);
+
+        // Assert
+        verify(attemptRepository, times(2)).insertAll(anyList());
+        verify(bestAttemptRepository, times(1)).save(any(BestAttempt.class));
+        verify(bestAttemptRepository, times(1)).improve(eq(1L), eq(1L), eq(9), any(LocalDateTime.class), anyLong());
+    }
+
+    @Test
+    void write_WriteBehind_GroupsConcurrentSubmissions() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(attemptWriter, "writeBehind", true);
+        ReflectionTestUtils.setField(attemptWriter, "batchSize", 100);
+        ReflectionTestUtils.setField(attemptWriter, "maxDelayMs", 200L);
+        ReflectionTestUtils.setField(attemptWriter, "queueCapacity", 100);
+        ReflectionTestUtils.setField(attemptWriter, "ackTimeoutMs", 5000L);
+        attemptWriter.start();
+        when(bestAttemptRepository.findById(any(BestAttemptId.class))).thenReturn(Optional.empty());
+
+        ExecutorService submitters = Executors.newFixedThreadPool(20);
+        List<Future<Attempt>> results = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            long quizId = i + 1;
+            results.add(submitters.submit(() -> attemptWriter.write(attempt(quizId, 5), principal)));
+        }
+        for (Future<Attempt> result : results) {
+            assertNotNull(result.get().getId());
+        }
+        submitters.shutdown();
+
+        // Assert
+        verify(attemptRepository, atMost(19)).insertAll(anyList());
+        verify(bestAttemptRepository, times(20)).save(any(BestAttempt.class));
+        verify(eventPublisher, times(20)).publishEvent(any(AttemptRecordedEvent.class));
+    }
+
+    @Test
+    void write_WriteBehindBatchFails_RetriesRowsIndividually() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(attemptWriter, "writeBehind", true);
+        ReflectionTestUtils.setField(attemptWriter, "batchSize", 100);
+        ReflectionTestUtils.setField(attemptWriter, "maxDelayMs", 10L);
+        ReflectionTestUtils.setField(attemptWriter, "queueCapacity", 100);
+        ReflectionTestUtils.setField(attemptWriter, "ackTimeoutMs", 5000L);
+        attemptWriter.start();
+        when(bestAttemptRepository.findById(any(BestAttemptId.class))).thenReturn(Optional.empty());
+        doThrow(new IllegalStateException("batch failed"))
+                .doAnswer(invocation -> {
+                    List<Attempt> attempts = invocation.getArgument(0);
+                    attempts.forEach(attempt -> attempt.setId(nextId.getAndIncrement()));
+                    return null;
+                })
+                .when(attemptRepository).insertAll(anyList());
+
+        // Act
+        Attempt saved = attemptWriter.write(attempt(1L, 6), principal);
+
+        // Assert
+        assertNotNull(saved.getId());
+        verify(attemptRepository, times(2)).insertAll(anyList());
+        verify(transactionManager, times(1)).rollback(any());
+    }
+
+    @Test
+    void write_WriteBehindAckTimesOut_ReportsPendingAndStillSaves() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(attemptWriter, "writeBehind", true);
+        ReflectionTestUtils.setField(attemptWriter, "batchSize", 100);
+        ReflectionTestUtils.setField(attemptWriter, "maxDelayMs", 10L);
+        ReflectionTestUtils.setField(attemptWriter, "queueCapacity", 100);
+        ReflectionTestUtils.setField(attemptWriter, "ackTimeoutMs", 50L);
+        attemptWriter.start();
+        when(bestAttemptRepository.findById(any(BestAttemptId.class))).thenReturn(Optional.empty());
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            release.await();
+            List<Attempt> attempts = invocation.getArgument(0);
+            attempts.forEach(attempt -> attempt.setId(nextId.getAndIncrement()));
+            return null;
+        }).when(attemptRepository).insertAll(anyList());
+
+        // Act
+        assertThrows(AttemptWriter.PendingException.class, () -> attemptWriter.write(attempt(1L, 6), principal));
+        release.countDown();
+        attemptWriter.stop();
+
+        // Assert
+        verify(attemptRepository, times(1)).insertAll(anyList());
+        verify(eventPublisher, times(1)).publishEvent(any(AttemptRecordedEvent.class));
+    }
+
+    @Test
+    void write_AfterStop_WritesSynchronously() throws Exception {
+        // Arrange
+        ReflectionTestUtils.setField(attemptWriter, "writeBehind", true);
+        ReflectionTestUtils.setField(attemptWriter, "queueCapacity", 100);
+        ReflectionTestUtils.setField(attemptWriter, "ackTimeoutMs", 5000L);
+        attemptWriter.start();
+        when(bestAttemptRepository.findById(any(BestAttemptId.class))).thenReturn(Optional.empty());
+        attemptWriter.stop();
+
+        // Act
+        Attempt saved = attemptWriter.write(attempt(1L, 6), principal);
+
+        // Assert
+        assertNotNull(saved.getId());
+        verify(attemptRepository, times(1)).insertAll(anyList());
+        verify(transactionManager, times(1)).commit(any());
+    }
+
+    private Attempt attempt(Long quizId, int score) {
+        return Attempt.builder()
+                .user(User.builder().id(1L).build())
+                .quiz(Quiz.builder().id(quizId).build())
+                .score(score)
+                .completedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -6,6 +6,7 @@ import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.LoginRequest;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.RegisterRequest;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.User;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.exception.BadRequestException;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.exception.ServiceUnavailableException;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,13 +16,13 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -69,8 +70,7 @@ class AuthServiceTest {
         when(userRepository.existsByEmail(anyString())).thenReturn(false);
         when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
         when(userRepository.save(any(User.class))).thenReturn(user);
-        when(userDetailsService.loadUserByUsername(anyString())).thenReturn(mock(UserDetails.class));
-        when(jwtUtil.generateToken(any(UserDetails.class))).thenReturn("test-jwt-token");
+        when(jwtUtil.generateToken(any(User.class), anyList())).thenReturn("test-jwt-token");
 
         // Act
         AuthResponse response = authService.register(registerRequest);
@@ -103,8 +103,7 @@ class AuthServiceTest {
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenReturn(null);
         when(userRepository.findByEmail(anyString())).thenReturn(Optional.of(user));
-        when(userDetailsService.loadUserByUsername(anyString())).thenReturn(mock(UserDetails.class));
-        when(jwtUtil.generateToken(any(UserDetails.class))).thenReturn("test-jwt-token");
+        when(jwtUtil.generateToken(any(User.class), anyList())).thenReturn("test-jwt-token");
 
         // Act
         AuthResponse response = authService.login(loginRequest);
@@ -116,6 +115,17 @@ class AuthServiceTest {
         assertEquals("John Doe", response.getName());
     }
 
+    @Test
+    void login_HashingPoolFull_PropagatesServiceUnavailable() {
+        // Arrange
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenThrow(new ServiceUnavailableException("Authentication is busy, please retry shortly"));
+
+        // Act & Assert
+        assertThrows(ServiceUnavailableException.class, () -> authService.login(loginRequest));
+        verifyNoInteractions(jwtUtil);
+    }
+
     @Test
     void login_InvalidCredentials_ThrowsException() {
         // Arrange
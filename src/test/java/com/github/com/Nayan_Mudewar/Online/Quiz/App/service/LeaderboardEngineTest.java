@@ -0,0 +1,138 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.service;
+
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.event.AttemptRecordedEvent;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.BestAttemptRepository;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.QuizRepository;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.projection.LeaderboardRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LeaderboardEngineTest {
+
+    @Mock
+    private BestAttemptRepository bestAttemptRepository;
+
+    @Mock
+    private QuizRepository quizRepository;
+
+    @InjectMocks
+    private LeaderboardEngine leaderboardEngine;
+
+    private final LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(leaderboardEngine, "enabled", true);
+    }
+
+    @Test
+    void top_KeepsBestAttemptPerUserInRankOrder() {
+        // Arrange
+        when(bestAttemptRepository.findLeaderboardRowsByQuizId(anyLong())).thenReturn(List.of(
+                row(1L, 10L, 6, now),
+                row(1L, 11L, 9, now.plusMinutes(5)),   // Better retry for user 1
+                row(2L, 12L, 9, now.plusMinutes(1)),   // Same score, earlier
+                row(3L, 13L, 4, now),
+                row(3L, 14L, 4, now.plusMinutes(10))   // Same score, later - ignored
+        ));
+
+        // Act
+        List<LeaderboardRow> top = leaderboardEngine.top(1L, 10);
+
+        // Assert
+        assertEquals(3, leaderboardEngine.size(1L));
+        assertEquals(List.of(2L, 1L, 3L), top.stream().map(LeaderboardRow::userId).toList());
+        assertEquals(11L, top.get(1).attemptId());
+        assertEquals(13L, top.get(2).attemptId());
+        verify(bestAttemptRepository, times(1)).findLeaderboardRowsByQuizId(1L);
+    }
+
+    @Test
+    void top_RespectsLimit() {
+        // Arrange
+        when(bestAttemptRepository.findLeaderboardRowsByQuizId(anyLong())).thenReturn(List.of(
+                row(1L, 10L, 8, now),
+                row(2L, 11L, 7, now),
+                row(3L, 12L, 6, now)
+        ));
+
+        // Act & Assert
+        assertEquals(2, leaderboardEngine.top(1L, 2).size());
+        assertEquals(3, leaderboardEngine.top(1L, null).size());
+    }
+
+    @Test
+    void onAttemptRecorded_UpdatesLoadedBoard() {
+        // Arrange
+        when(bestAttemptRepository.findLeaderboardRowsByQuizId(anyLong())).thenReturn(List.of(
+                row(1L, 10L, 8, now),
+                row(2L, 11L, 5, now)
+        ));
+        leaderboardEngine.top(1L, 10);
+
+        // Act
+        leaderboardEngine.onAttemptRecorded(new AttemptRecordedEvent(
+                12L, 1L, 2L, "User 2", "user2@example.com", 10, now.plusHours(1)));
+        leaderboardEngine.onAttemptRecorded(new AttemptRecordedEvent(
+                13L, 1L, 1L, "User 1", "user1@example.com", 3, now.plusHours(2))); // Worse, ignored
+
+        // Assert
+        List<LeaderboardRow> top = leaderboardEngine.top(1L, 10);
+        assertEquals(2, top.size());
+        assertEquals(12L, top.get(0).attemptId());
+        assertEquals(10L, top.get(1).attemptId());
+    }
+
+    @Test
+    void onAttemptRecorded_BoardNotLoaded_LeavesItToTheDatabase() {
+        // Act
+        leaderboardEngine.onAttemptRecorded(new AttemptRecordedEvent(
+                12L, 1L, 2L, "User 2", "user2@example.com", 10, now));
+
+        // Assert
+        verifyNoInteractions(bestAttemptRepository);
+    }
+
+    @Test
+    void around_ReturnsNeighboursAndTieAwareCounts() {
+        // Arrange
+        when(bestAttemptRepository.findLeaderboardRowsByQuizId(anyLong())).thenReturn(List.of(
+                row(1L, 10L, 9, now),
+                row(2L, 11L, 7, now),
+                row(3L, 12L, 7, now.plusMinutes(1)),
+                row(4L, 13L, 7, now.plusMinutes(2)),
+                row(5L, 14L, 3, now)
+        ));
+
+        // Act
+        List<LeaderboardRow> window = leaderboardEngine.around(1L, 3L, 1);
+        List<LeaderboardRow> edge = leaderboardEngine.around(1L, 1L, 2);
+        leaderboardEngine.onAttemptRecorded(new AttemptRecordedEvent(
+                15L, 1L, 5L, "User 5", "user5@example.com", 10, now.plusHours(1)));
+
+        // Assert
+        assertEquals(List.of(2L, 3L, 4L), window.stream().map(LeaderboardRow::userId).toList());
+        assertEquals(List.of(1L, 2L, 3L), edge.stream().map(LeaderboardRow::userId).toList());
+        assertTrue(leaderboardEngine.around(1L, 99L, 2).isEmpty());
+        assertEquals(2, leaderboardEngine.countHigherScores(1L, 7)); // User 5 moved from 3 to 10
+        assertEquals(0, leaderboardEngine.countHigherScores(1L, 10));
+        assertEquals(5, leaderboardEngine.countHigherScores(1L, 3));
+    }
+
+    private LeaderboardRow row(Long userId, Long attemptId, int score, LocalDateTime completedAt) {
+        return new LeaderboardRow(userId, "User " + userId, "user" + userId + "@example.com", attemptId, score, completedAt);
+    }
+}
@@ -0,0 +1,168 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.service;
+
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.LeaderboardEntry;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.LeaderboardResponse;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuizSummary;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.exception.BadRequestException;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.exception.ResourceNotFoundException;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.BestAttemptRepository;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.projection.LeaderboardRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LeaderboardServiceTest {
+
+    @Mock
+    private BestAttemptRepository bestAttemptRepository;
+
+    @Mock
+    private QuizCatalog quizCatalog;
+
+    @Mock
+    private LeaderboardEngine leaderboardEngine;
+
+    @InjectMocks
+    private LeaderboardService leaderboardService;
+
+    private QuizSummary quiz;
+    private List<LeaderboardRow> rows;
+
+    @BeforeEach
+    void setUp() {
+        quiz = QuizSummary.builder()
+                .id(1L)
+                .title("Test Quiz")
+                .category("General")
+                .questionCount(15)
+                .attemptCount(4L)
+                .build();
+
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        rows = List.of(
+                new LeaderboardRow(1L, "User 1", "user1@example.com", 11L, 9, now),
+                new LeaderboardRow(2L, "User 2", "user2@example.com", 12L, 9, now.plusMinutes(1)),
+                new LeaderboardRow(3L, "User 3", "user3@example.com", 13L, 7, now),
+                new LeaderboardRow(4L, "User 4", "user4@example.com", 14L, 5, now)
+        );
+    }
+
+    @Test
+    void getLeaderboard_FromEngine_TiesShareRank() {
+        // Arrange
+        when(quizCatalog.getSummary(1L)).thenReturn(quiz);
+        when(leaderboardEngine.isEnabled()).thenReturn(true);
+        when(leaderboardEngine.page(1L, 0, 10)).thenReturn(rows);
+        when(leaderboardEngine.size(1L)).thenReturn(4);
+
+        // Act
+        LeaderboardResponse response = leaderboardService.getLeaderboard(1L, 10);
+
+        // Assert
+        assertEquals(4, response.getTotalAttempts());
+        assertEquals(List.of(1, 1, 3, 4), response.getLeaderboard().stream().map(LeaderboardEntry::getRank).toList());
+        assertEquals(90.0, response.getLeaderboard().get(0).getPercentage());
+        verifyNoInteractions(bestAttemptRepository);
+    }
+
+    @Test
+    void getLeaderboard_FromDatabaseWithOffset_RanksStayAbsolute() {
+        // Arrange
+        when(quizCatalog.getSummary(1L)).thenReturn(quiz);
+        when(leaderboardEngine.isEnabled()).thenReturn(false);
+        when(bestAttemptRepository.findLeaderboardPage(1L, 1, 2)).thenReturn(rows.subList(1, 3));
+        when(bestAttemptRepository.countByIdQuizId(1L)).thenReturn(4L);
+        when(bestAttemptRepository.countByIdQuizIdAndScoreGreaterThan(1L, 9)).thenReturn(0L);
+
+        // Act
+        LeaderboardResponse response = leaderboardService.getLeaderboard(1L, 1, 2);
+
+        // Assert
+        assertEquals(4, response.getTotalAttempts());
+        assertEquals(List.of(1, 3), response.getLeaderboard().stream().map(LeaderboardEntry::getRank).toList());
+        assertEquals("User 2", response.getLeaderboard().get(0).getUserName());
+        verifyNoMoreInteractions(bestAttemptRepository);
+    }
+
+    @Test
+    void getLeaderboardAround_FromEngine_RanksByHigherScores() {
+        // Arrange
+        when(quizCatalog.getSummary(1L)).thenReturn(quiz);
+        when(leaderboardEngine.isEnabled()).thenReturn(true);
+        when(leaderboardEngine.around(1L, 2L, 1)).thenReturn(rows.subList(0, 3));
+        when(leaderboardEngine.countHigherScores(1L, 9)).thenReturn(0);
+        when(leaderboardEngine.countHigherScores(1L, 7)).thenReturn(2);
+        when(leaderboardEngine.size(1L)).thenReturn(4);
+
+        // Act
+        LeaderboardResponse response = leaderboardService.getLeaderboardAround(1L, 2L, 1);
+
+        // Assert
+        assertEquals(List.of(1, 1, 3), response.getLeaderboard().stream().map(LeaderboardEntry::getRank).toList());
+        assertEquals(4, response.getTotalAttempts());
+        verifyNoInteractions(bestAttemptRepository);
+    }
+
+    @Test
+    void getLeaderboardAround_FromDatabase_RanksFromWindowStart() {
+        // Arrange
+        LeaderboardRow anchor = rows.get(2);
+        when(quizCatalog.getSummary(1L)).thenReturn(quiz);
+        when(leaderboardEngine.isEnabled()).thenReturn(false);
+        when(bestAttemptRepository.findLeaderboardRow(1L, 3L)).thenReturn(Optional.of(anchor));
+        when(bestAttemptRepository.findLeaderboardWindow(1L, anchor, 1)).thenReturn(rows.subList(1, 4));
+        when(bestAttemptRepository.countByIdQuizIdAndScoreGreaterThan(1L, 9)).thenReturn(0L);
+        when(bestAttemptRepository.countRankedBefore(1L, rows.get(1))).thenReturn(1L);
+        when(bestAttemptRepository.countByIdQuizId(1L)).thenReturn(4L);
+
+        // Act
+        LeaderboardResponse response = leaderboardService.getLeaderboardAround(1L, 3L, 1);
+
+        // Assert - User 2 ties User 1 for first, the rest rank by position
+        assertEquals(List.of(1, 3, 4), response.getLeaderboard().stream().map(LeaderboardEntry::getRank).toList());
+        assertEquals(List.of(2L, 3L, 4L), response.getLeaderboard().stream().map(LeaderboardEntry::getUserId).toList());
+    }
+
+    @Test
+    void getLeaderboardAround_NoAttempt_ThrowsException() {
+        // Arrange
+        when(quizCatalog.getSummary(1L)).thenReturn(quiz);
+        when(leaderboardEngine.isEnabled()).thenReturn(true);
+        when(leaderboardEngine.around(1L, 9L, 0)).thenReturn(List.of());
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () -> leaderboardService.getLeaderboardAround(1L, 9L, 0));
+    }
+
+    @Test
+    void getLeaderboardAround_RadiusOutOfRange_ThrowsException() {
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> leaderboardService.getLeaderboardAround(1L, 1L, 51));
+        verifyNoInteractions(quizCatalog, bestAttemptRepository, leaderboardEngine);
+    }
+
+    @Test
+    void getLeaderboard_QuizNotFound_ThrowsException() {
+        // Arrange
+        when(quizCatalog.getSummary(1L)).thenThrow(new ResourceNotFoundException("Quiz not found with id: 1"));
+
+        // Act & Assert
+        ResourceNotFoundException exception = assertThrows(
+                ResourceNotFoundException.class,
+                () -> leaderboardService.getLeaderboard(1L, 10)
+        );
+        assertEquals("Quiz not found with id: 1", exception.getMessage());
+        verifyNoInteractions(bestAttemptRepository, leaderboardEngine);
+    }
+}
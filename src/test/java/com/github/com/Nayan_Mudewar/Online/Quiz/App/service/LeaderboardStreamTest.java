@@ -0,0 +1,109 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.LeaderboardEntry;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.LeaderboardResponse;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.event.AttemptRecordedEvent;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LeaderboardStreamTest {
+
+    @Mock
+    private LeaderboardService leaderboardService;
+
+    private LeaderboardStream leaderboardStream;
+
+    @BeforeEach
+    void setUp() {
+        leaderboardStream = new LeaderboardStream(leaderboardService, new ObjectMapper().findAndRegisterModules(), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(leaderboardStream, "top", 10);
+        ReflectionTestUtils.setField(leaderboardStream, "coalesceMs", 50L);
+        ReflectionTestUtils.setField(leaderboardStream, "bufferSize", 16);
+        ReflectionTestUtils.setField(leaderboardStream, "maxSubscribers", 2);
+        ReflectionTestUtils.setField(leaderboardStream, "timeoutMs", 60_000L);
+        ReflectionTestUtils.setField(leaderboardStream, "heartbeatMs", 60_000L);
+        ReflectionTestUtils.setField(leaderboardStream, "senderThreads", 1);
+        leaderboardStream.start();
+
+        lenient().when(leaderboardService.getLeaderboard(1L, 0, 10)).thenReturn(board(1), board(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        leaderboardStream.stop();
+    }
+
+    @Test
+    void onAttemptRecorded_Burst_RecomputesTopOnceForAllSubscribers() {
+        // Arrange
+        leaderboardStream.subscribe(1L);
+        leaderboardStream.subscribe(1L);
+
+        // Act
+        for (int i = 0; i < 50; i++) {
+            leaderboardStream.onAttemptRecorded(attempt(1L));
+        }
+
+        // Assert - one read for the shared snapshot, one for the coalesced burst
+        verify(leaderboardService, timeout(2000).times(2)).getLeaderboard(1L, 0, 10);
+        verify(leaderboardService, after(200).times(2)).getLeaderboard(1L, 0, 10);
+        assertEquals(2, leaderboardStream.subscriberCount());
+    }
+
+    @Test
+    void onAttemptRecorded_NoSubscribers_DoesNotReadLeaderboard() {
+        // Act
+        leaderboardStream.onAttemptRecorded(attempt(1L));
+
+        // Assert
+        verify(leaderboardService, after(200).never()).getLeaderboard(anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    void subscribe_OverLimit_ThrowsServiceUnavailable() {
+        // Arrange
+        leaderboardStream.subscribe(1L);
+        leaderboardStream.subscribe(1L);
+
+        // Act & Assert
+        assertThrows(ServiceUnavailableException.class, () -> leaderboardStream.subscribe(1L));
+        assertEquals(2, leaderboardStream.subscriberCount());
+    }
+
+    private static LeaderboardResponse board(int leaderScore) {
+        LeaderboardEntry leader = LeaderboardEntry.builder()
+                .userId(1L)
+                .userName("John Doe")
+                .userEmail("john@example.com")
+                .score(leaderScore)
+                .percentage(leaderScore * 10.0)
+                .completedAt(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .rank(1)
+                .build();
+        return LeaderboardResponse.builder()
+                .quizId(1L)
+                .quizTitle("Java Basics")
+                .totalAttempts(leaderScore)
+                .leaderboard(List.of(leader))
+                .build();
+    }
+
+    private static AttemptRecordedEvent attempt(Long quizId) {
+        return new AttemptRecordedEvent(1L, quizId, 1L, "John Doe", "john@example.com", 5, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,127 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuestionDto;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuizStartResponse;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Question;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Quiz;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.event.QuizContentChangedEvent;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.exception.ResourceNotFoundException;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.QuestionRepository;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.QuizRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QuestionBankCacheTest {
+
+    @Mock
+    private QuizRepository quizRepository;
+
+    @Mock
+    private QuestionRepository questionRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private QuestionBankCache questionBankCache;
+
+    private Quiz quiz;
+    private List<Question> questions;
+
+    @BeforeEach
+    void setUp() {
+        quiz = Quiz.builder()
+                .id(1L)
+                .title("Test Quiz")
+                .category("General")
+                .build();
+
+        questions = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            Question question = Question.builder()
+                    .id((long) i)
+                    .quiz(quiz)
+                    .question("Question " + i)
+                    .options("[\"Option1\",\"Option2\",\"Option3\",\"Option4\"]")
+                    .correctAnswer("Option1")
+                    .build();
+            questions.add(question);
+        }
+    }
+
+    @Test
+    void getBank_LoadsOnceAndParsesOptions() throws IOException {
+        // Arrange
+        when(quizRepository.findById(anyLong())).thenReturn(Optional.of(quiz));
+        when(questionRepository.findByQuizId(anyLong())).thenReturn(questions);
+
+        // Act
+        QuestionBank first = questionBankCache.getBank(1L);
+        QuestionBank second = questionBankCache.getBank(1L);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals("Test Quiz", first.getTitle());
+        assertEquals(10, first.size());
+        assertEquals(List.of("Option1", "Option2", "Option3", "Option4"), startQuestions(first).get(0).getOptions());
+        assertEquals(10, first.getAnswerKey().size());
+        assertTrue(first.getAnswerKey().isCorrect(first.getAnswerKey().indexOf(4L), "option1"));
+        assertEquals(-1, first.getAnswerKey().indexOf(11L));
+        verify(quizRepository, times(1)).findById(1L);
+        verify(questionRepository, times(1)).findByQuizId(1L);
+    }
+
+    private List<QuestionDto> startQuestions(QuestionBank bank) throws IOException {
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        bank.getStartPayload().select(IntStream.range(0, bank.size()).toArray()).writeJson(json);
+        return objectMapper.readValue(json.toByteArray(), QuizStartResponse.class).getQuestions();
+    }
+
+    @Test
+    void onQuizContentChanged_ReloadsOnNextRead() {
+        // Arrange
+        when(quizRepository.findById(anyLong())).thenReturn(Optional.of(quiz));
+        when(questionRepository.findByQuizId(anyLong())).thenReturn(questions);
+        QuestionBank first = questionBankCache.getBank(1L);
+
+        // Act
+        questionBankCache.onQuizContentChanged(new QuizContentChangedEvent(1L));
+        QuestionBank second = questionBankCache.getBank(1L);
+
+        // Assert
+        assertNotSame(first, second);
+        verify(questionRepository, times(2)).findByQuizId(1L);
+    }
+
+    @Test
+    void getBank_QuizNotFound_ThrowsException() {
+        // Arrange
+        when(quizRepository.findById(anyLong())).thenReturn(Optional.empty());
+
+        // Act & Assert
+        ResourceNotFoundException exception = assertThrows(
+                ResourceNotFoundException.class,
+                () -> questionBankCache.getBank(1L)
+        );
+        assertEquals("Quiz not found with id: 1", exception.getMessage());
+        verifyNoInteractions(questionRepository);
+    }
+}
@@ -0,0 +1,138 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuestionImportError;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuestionImportReport;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuestionDto;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuizStartResponse;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Question;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Quiz;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.exception.BadRequestException;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.exception.ResourceNotFoundException;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.QuestionRepository;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.QuizRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:question-import;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "quiz.import.batch-size=2",
+        "quiz.import.max-reported-errors=2"
+})
+class QuestionImportServiceTest {
+
+    @Autowired
+    private QuestionImportService questionImportService;
+
+    @Autowired
+    private QuestionBankCache questionBankCache;
+
+    @Autowired
+    private QuizRepository quizRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Long quizId;
+
+    @BeforeEach
+    void setUp() {
+        Quiz quiz = quizRepository.save(Quiz.builder().title("Import Quiz").category("General").build());
+        quizId = quiz.getId();
+        questionRepository.save(Question.builder()
+                .quiz(quiz)
+                .question("Existing")
+                .options("[\"A\",\"B\"]")
+                .correctAnswer("A")
+                .build());
+    }
+
+    @Test
+    void importQuestions_JsonLines_BatchesValidRowsAndReportsRejected() throws IOException {
+        // Arrange
+        questionBankCache.getBank(quizId); // Warm, so the import must invalidate it
+        String jsonl = """
+                {"question":"Q1","options":["A","B","C"],"correctAnswer":"B"}
+                {"question":"Q2","options":[" A "," B "],"correctAnswer":"A "}
+                {"question":"Q3",
+                {"question":"Q4","options":["A","B"],"correctAnswer":"C"}
+
+                {"question":"Q5","options":["A","B"],"correctAnswer":"A"}
+                {"question":"Q6","options":["A"],"correctAnswer":"A"}
+                {"question":"Q7","options":["A","B"],"correctAnswer":"B"}
+                {"question":"Q8","options":["A","B"],"correctAnswer":"B","difficulty":"easy"}
+                """;
+
+        // Act
+        QuestionImportReport report = questionImportService.importQuestions(quizId, stream(jsonl), QuestionImportService.Format.JSONL);
+
+        // Assert
+        assertEquals(8, report.getRowsRead());
+        assertEquals(5, report.getImported());
+        assertEquals(3, report.getRejected());
+        assertEquals(3, report.getBatches());
+        assertEquals(List.of(3, 4), report.getErrors().stream().map(QuestionImportError::getLine).toList());
+        assertEquals("Correct answer must be one of the options", report.getErrors().get(1).getMessage());
+        assertTrue(report.getErrorsTruncated());
+
+        QuestionBank bank = questionBankCache.getBank(quizId);
+        assertEquals(6, bank.size());
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        bank.getStartPayload().select(IntStream.range(0, bank.size()).toArray()).writeJson(json);
+        List<QuestionDto> questions = objectMapper.readValue(json.toByteArray(), QuizStartResponse.class).getQuestions();
+        QuestionDto trimmed = questions.stream().filter(question -> question.getQuestion().equals("Q2")).findFirst().orElseThrow();
+        assertEquals(List.of("A", "B"), trimmed.getOptions());
+    }
+
+    @Test
+    void importQuestions_Csv_HandlesQuotingAndReportsLines() throws IOException {
+        // Arrange
+        String csv = "question,options,correctAnswer\r\n"
+                + "\"Which is larger, 2 or 3?\",2|3,3\r\n"
+                + "\"Say \"\"hi\"\"\nin two lines\",hi|bye,hi\r\n"
+                + "Missing field,A|B\r\n"
+                + "Plain,yes|no,no";
+
+        // Act
+        QuestionImportReport report = questionImportService.importQuestions(quizId, stream(csv), QuestionImportService.Format.CSV);
+
+        // Assert
+        assertEquals(3, report.getImported());
+        assertEquals(1, report.getRejected());
+        assertEquals(5, report.getErrors().get(0).getLine()); // The quoted line break counts
+        assertEquals(List.of("Existing", "Which is larger, 2 or 3?", "Say \"hi\"\nin two lines", "Plain"),
+                questionRepository.findByQuizId(quizId).stream().map(Question::getQuestion).toList());
+    }
+
+    @Test
+    void importQuestions_CsvWithoutHeader_ThrowsBadRequest() {
+        assertThrows(BadRequestException.class, () -> questionImportService.importQuestions(
+                quizId, stream("Q1,A|B,A\n"), QuestionImportService.Format.CSV));
+    }
+
+    @Test
+    void importQuestions_UnknownQuiz_ThrowsNotFound() {
+        assertThrows(ResourceNotFoundException.class, () -> questionImportService.importQuestions(
+                Long.MAX_VALUE, stream(""), QuestionImportService.Format.JSONL));
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class QuestionSamplerTest {
+
+    @Test
+    void sampleIndices_ReturnsDistinctIndicesInRange() {
+        Random random = new Random(42);
+
+        for (int run = 0; run < 1_000; run++) {
+            int[] indices = QuestionSampler.sampleIndices(10_000, 10, random);
+
+            assertEquals(10, indices.length);
+            Set<Integer> distinct = new HashSet<>();
+            for (int index : indices) {
+                assertTrue(index >= 0 && index < 10_000);
+                distinct.add(index);
+            }
+            assertEquals(10, distinct.size());
+        }
+    }
+
+    @Test
+    void sampleIndices_WholeRange_ReturnsPermutation() {
+        int[] indices = QuestionSampler.sampleIndices(10, 10, new Random(7));
+
+        Arrays.sort(indices);
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9}, indices);
+    }
+
+    @Test
+    void sampleIndices_CoversEveryIndex() {
+        // With 20 choose 10 over many runs every index must show up at some point
+        Random random = new Random(1);
+        int[] hits = new int[20];
+
+        for (int run = 0; run < 2_000; run++) {
+            for (int index : QuestionSampler.sampleIndices(20, 10, random)) {
+                hits[index]++;
+            }
+        }
+
+        for (int hit : hits) {
+            assertTrue(hit > 0);
+        }
+    }
+
+    @Test
+    void sampleIndices_MoreThanAvailable_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> QuestionSampler.sampleIndices(5, 10));
+    }
+}
@@ -0,0 +1,110 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.service;
+
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuizCatalogPage;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuizSummary;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.event.AttemptRecordedEvent;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.event.QuizContentChangedEvent;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.exception.BadRequestException;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.exception.ResourceNotFoundException;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.QuizRepository;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.projection.QuizSummaryRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QuizCatalogTest {
+
+    @Mock
+    private QuizRepository quizRepository;
+
+    @InjectMocks
+    private QuizCatalog quizCatalog;
+
+    private List<QuizSummaryRow> rows;
+
+    @BeforeEach
+    void setUp() {
+        rows = List.of(
+                new QuizSummaryRow(1L, "General Knowledge", "General", 15L, 40L),
+                new QuizSummaryRow(2L, "Java Basics", "Programming", 12L, 3L),
+                new QuizSummaryRow(3L, "World Capitals", "general", 20L, 0L)
+        );
+    }
+
+    @Test
+    void getPage_FiltersByCategoryAndPaginates() {
+        // Arrange
+        when(quizRepository.findSummaries()).thenReturn(rows);
+
+        // Act
+        QuizCatalogPage first = quizCatalog.getPage("General", 0, 1);
+        QuizCatalogPage second = quizCatalog.getPage("General", 1, 1);
+
+        // Assert
+        assertEquals(2, first.getTotalQuizzes());
+        assertEquals(1L, first.getQuizzes().get(0).getId());
+        assertEquals(3L, second.getQuizzes().get(0).getId());
+        assertEquals(15, first.getQuizzes().get(0).getQuestionCount());
+        verify(quizRepository, times(1)).findSummaries();
+    }
+
+    @Test
+    void onAttemptRecorded_IncrementsAttemptCountWithoutReload() {
+        // Arrange
+        when(quizRepository.findSummaries()).thenReturn(rows);
+        quizCatalog.getSummary(2L);
+
+        // Act
+        quizCatalog.onAttemptRecorded(new AttemptRecordedEvent(99L, 2L, 1L, "John Doe", "john@example.com", 8, LocalDateTime.now()));
+        QuizSummary summary = quizCatalog.getSummary(2L);
+
+        // Assert
+        assertEquals(4L, summary.getAttemptCount());
+        verify(quizRepository, times(1)).findSummaries();
+    }
+
+    @Test
+    void onQuizContentChanged_ReloadsOnNextRead() {
+        // Arrange
+        when(quizRepository.findSummaries()).thenReturn(rows);
+        quizCatalog.getPage(null, 0, 20);
+
+        // Act
+        quizCatalog.onQuizContentChanged(new QuizContentChangedEvent(1L));
+        QuizCatalogPage page = quizCatalog.getPage(null, 0, 20);
+
+        // Assert
+        assertEquals(3, page.getTotalQuizzes());
+        verify(quizRepository, times(2)).findSummaries();
+    }
+
+    @Test
+    void getSummary_QuizNotFound_ThrowsException() {
+        // Arrange
+        when(quizRepository.findSummaries()).thenReturn(rows);
+
+        // Act & Assert
+        ResourceNotFoundException exception = assertThrows(
+                ResourceNotFoundException.class,
+                () -> quizCatalog.getSummary(4L)
+        );
+        assertEquals("Quiz not found with id: 4", exception.getMessage());
+    }
+
+    @Test
+    void getPage_InvalidSize_ThrowsException() {
+        // Act & Assert
+        assertThrows(BadRequestException.class, () -> quizCatalog.getPage(null, 0, 0));
+        verifyNoInteractions(quizRepository);
+    }
+}
@@ -1,13 +1,13 @@
 package com.github.com.Nayan_Mudewar.Online.Quiz.App.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuestionDto;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuizCatalogPage;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuizStartResponse;
-import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Question;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuizSummary;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Quiz;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.exception.BadRequestException;
 import com.github.com.Nayan_Mudewar.Online.Quiz.App.exception.ResourceNotFoundException;
-import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.QuestionRepository;
-import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.QuizRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,9 +15,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayOutputStream;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -27,19 +29,18 @@ import static org.mockito.Mockito.*;
 class QuizServiceTest {
 
     @Mock
-    private QuizRepository quizRepository;
+    private QuizCatalog quizCatalog;
 
     @Mock
-    private QuestionRepository questionRepository;
-
-    @Mock
-    private ObjectMapper objectMapper;
+    private QuestionBankCache questionBankCache;
 
     @InjectMocks
     private QuizService quizService;
 
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
     private Quiz quiz;
-    private List<Question> questions;
+    private List<QuestionDto> questions;
 
     @BeforeEach
     void setUp() {
@@ -50,13 +51,11 @@ class QuizServiceTest {
                 .build();
 
         questions = new ArrayList<>();
-        for (int i = 1; i <= 10; i++) {
-            Question question = Question.builder()
+        for (int i = 1; i <= 15; i++) {
+            QuestionDto question = QuestionDto.builder()
                     .id((long) i)
-                    .quiz(quiz)
                     .question("Question " + i)
-                    .options("[\"Option1\",\"Option2\",\"Option3\",\"Option4\"]")
-                    .correctAnswer("Option1")
+                    .options(List.of("Option1", "Option2", "Option3", "Option4"))
                     .build();
             questions.add(question);
         }
@@ -65,32 +64,38 @@ class QuizServiceTest {
     @Test
     void startQuiz_Success() throws Exception {
         // Arrange
-        when(quizRepository.findById(anyLong())).thenReturn(Optional.of(quiz));
-        when(questionRepository.findRandomQuestionsByQuizId(anyLong())).thenReturn(questions);
-        when(objectMapper.readValue(anyString(), any(com.fasterxml.jackson.core.type.TypeReference.class)))
-                .thenReturn(List.of("Option1", "Option2", "Option3", "Option4"));
+        QuestionBank bank = new QuestionBank(1L, "Test Quiz", "General", AnswerKey.compile(List.of()),
+                StartPayload.render(objectMapper, 1L, "Test Quiz", "General", questions));
+        when(questionBankCache.getBank(anyLong())).thenReturn(bank);
 
         // Act
-        QuizStartResponse response = quizService.startQuiz(1L);
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        quizService.startQuizPayload(1L).writeJson(json);
+        QuizStartResponse response = objectMapper.readValue(json.toByteArray(), QuizStartResponse.class);
 
         // Assert
         assertNotNull(response);
         assertEquals(1L, response.getQuizId());
         assertEquals("Test Quiz", response.getTitle());
         assertEquals(10, response.getQuestions().size());
-        verify(quizRepository, times(1)).findById(1L);
-        verify(questionRepository, times(1)).findRandomQuestionsByQuizId(1L);
+
+        Set<Long> ids = new HashSet<>();
+        response.getQuestions().forEach(q -> ids.add(q.getId()));
+        assertEquals(10, ids.size()); // No duplicates
+        verify(questionBankCache, times(1)).getBank(1L);
+        verifyNoInteractions(quizCatalog);
     }
 
     @Test
     void startQuiz_QuizNotFound_ThrowsException() {
         // Arrange
-        when(quizRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(questionBankCache.getBank(anyLong()))
+                .thenThrow(new ResourceNotFoundException("Quiz not found with id: 1"));
 
         // Act & Assert
         ResourceNotFoundException exception = assertThrows(
                 ResourceNotFoundException.class,
-                () -> quizService.startQuiz(1L)
+                () -> quizService.startQuizPayload(1L)
         );
         assertEquals("Quiz not found with id: 1", exception.getMessage());
     }
@@ -98,14 +103,14 @@ class QuizServiceTest {
     @Test
     void startQuiz_LessThan10Questions_ThrowsException() {
         // Arrange
-        when(quizRepository.findById(anyLong())).thenReturn(Optional.of(quiz));
-        when(questionRepository.findRandomQuestionsByQuizId(anyLong()))
-                .thenReturn(questions.subList(0, 5)); // Only 5 questions
+        QuestionBank bank = new QuestionBank(1L, "Test Quiz", "General", AnswerKey.compile(List.of()),
+                StartPayload.render(objectMapper, 1L, "Test Quiz", "General", questions.subList(0, 5))); // Only 5 questions
+        when(questionBankCache.getBank(anyLong())).thenReturn(bank);
 
         // Act & Assert
         BadRequestException exception = assertThrows(
                 BadRequestException.class,
-                () -> quizService.startQuiz(1L)
+                () -> quizService.startQuizPayload(1L)
         );
         assertTrue(exception.getMessage().contains("at least 10 questions"));
     }
@@ -113,15 +118,20 @@ class QuizServiceTest {
     @Test
     void getAllQuizzes_Success() {
         // Arrange
-        List<Quiz> quizzes = List.of(quiz);
-        when(quizRepository.findAll()).thenReturn(quizzes);
+        QuizCatalogPage page = QuizCatalogPage.builder()
+                .quizzes(List.of(QuizSummary.builder().id(quiz.getId()).title(quiz.getTitle()).category(quiz.getCategory()).build()))
+                .page(0)
+                .size(20)
+                .totalQuizzes(1)
+                .build();
+        when(quizCatalog.getPage(null, 0, 20)).thenReturn(page);
 
         // Act
-        List<Quiz> result = quizService.getAllQuizzes();
+        QuizCatalogPage result = quizService.getAllQuizzes(null, 0, 20);
 
         // Assert
         assertNotNull(result);
-        assertEquals(1, result.size());
-        verify(quizRepository, times(1)).findAll();
+        assertEquals(1, result.getQuizzes().size());
+        verify(quizCatalog, times(1)).getPage(null, 0, 20);
     }
 }
@@ -0,0 +1,63 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.service;
+
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.event.AttemptRecordedEvent;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.event.QuizContentChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResourceVersionsTest {
+
+    private final ResourceVersions resourceVersions = new ResourceVersions();
+
+    @Test
+    void onAttemptRecorded_ChangesOnlyThatQuizLeaderboardAndCatalog() {
+        // Arrange
+        String quiz1 = resourceVersions.leaderboardETag(1L);
+        String quiz2 = resourceVersions.leaderboardETag(2L);
+        String catalog = resourceVersions.catalogETag();
+
+        // Act
+        resourceVersions.onAttemptRecorded(new AttemptRecordedEvent(10L, 1L, 5L, "John Doe", "john@example.com", 7, LocalDateTime.now()));
+
+        // Assert
+        assertNotEquals(quiz1, resourceVersions.leaderboardETag(1L));
+        assertEquals(quiz2, resourceVersions.leaderboardETag(2L));
+        assertNotEquals(catalog, resourceVersions.catalogETag());
+    }
+
+    @Test
+    void onAttemptRecorded_WithinRefreshInterval_KeepsCatalog() {
+        // Arrange
+        ReflectionTestUtils.setField(resourceVersions, "attemptCountRefreshMs", 60_000L);
+        String catalog = resourceVersions.catalogETag();
+
+        // Act
+        for (long attemptId = 1; attemptId <= 100; attemptId++) {
+            resourceVersions.onAttemptRecorded(new AttemptRecordedEvent(attemptId, 1L, 5L, "John Doe", "john@example.com", 7, LocalDateTime.now()));
+        }
+
+        // Assert
+        assertEquals(catalog, resourceVersions.catalogETag());
+        resourceVersions.onQuizContentChanged(new QuizContentChangedEvent(1L));
+        assertNotEquals(catalog, resourceVersions.catalogETag());
+    }
+
+    @Test
+    void onQuizContentChanged_ChangesLeaderboardAndCatalog() {
+        // Arrange
+        String leaderboard = resourceVersions.leaderboardETag(1L);
+        String catalog = resourceVersions.catalogETag();
+
+        // Act
+        resourceVersions.onQuizContentChanged(new QuizContentChangedEvent(1L));
+
+        // Assert
+        assertNotEquals(leaderboard, resourceVersions.leaderboardETag(1L));
+        assertNotEquals(catalog, resourceVersions.catalogETag());
+        assertTrue(resourceVersions.catalogETag().startsWith("\"") && resourceVersions.catalogETag().endsWith("\""));
+    }
+}
@@ -0,0 +1,252 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.service;
+
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.config.AuthenticatedUser;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.AttemptHistoryPage;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.LeaderboardEntry;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.LeaderboardResponse;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuizSubmitRequest;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuizSubmitResponse;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Attempt;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.BestAttempt;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.BestAttemptId;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Question;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Quiz;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.User;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.AttemptRepository;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.BestAttemptRepository;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.QuestionRepository;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.QuizRepository;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.UserRepository;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.support.QueryCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Pins the SQL budget of the hot service calls against an in-memory H2. Statements are counted
+ * at the JDBC level, so the plain-JDBC attempt insert counts too, and a lazy load per row shows
+ * up as a failure rather than a slow page.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-budget;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "quiz.leaderboard.in-memory=false"
+})
+@Import(QueryCounter.Config.class)
+class ServiceQueryBudgetTest {
+
+    private static final int USERS = 60;
+
+    @Autowired
+    private LeaderboardService leaderboardService;
+
+    @Autowired
+    private AttemptService attemptService;
+
+    @Autowired
+    private QuizCatalog quizCatalog;
+
+    @Autowired
+    private QuestionBankCache questionBankCache;
+
+    @Autowired
+    private QuizRepository quizRepository;
+
+    @Autowired
+    private QuestionRepository questionRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AttemptRepository attemptRepository;
+
+    @Autowired
+    private BestAttemptRepository bestAttemptRepository;
+
+    private Quiz quiz;
+    private List<Question> questions;
+    private List<User> users;
+
+    @BeforeEach
+    void setUp() {
+        quiz = quizRepository.save(Quiz.builder().title("Query Budget Quiz").category("General").build());
+
+        questions = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            questions.add(Question.builder()
+                    .quiz(quiz)
+                    .question("Question " + i)
+                    .options("[\"A\",\"B\",\"C\",\"D\"]")
+                    .correctAnswer("A")
+                    .build());
+        }
+        questions = questionRepository.saveAll(questions);
+
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 12, 0);
+        users = new ArrayList<>(USERS);
+        List<BestAttempt> bestAttempts = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            User user = userRepository.save(User.builder()
+                    .name("User " + i)
+                    .email("quiz" + quiz.getId() + "-user" + i + "@example.com")
+                    .password("password")
+                    .build());
+            users.add(user);
+            bestAttempts.add(BestAttempt.builder()
+                    .id(new BestAttemptId(quiz.getId(), user.getId()))
+                    .score(i % 11)
+                    .completedAt(start.plusMinutes(i))
+                    .attemptId((long) i + 1)
+                    .build());
+        }
+        bestAttemptRepository.saveAll(bestAttempts);
+
+        // Warm the in-memory snapshots; their one-off loads are not per-request cost
+        quizCatalog.getSummary(quiz.getId());
+        questionBankCache.getBank(quiz.getId());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void getLeaderboard_StatementCountIndependentOfLimit() {
+        // Act
+        long small = QueryCounter.statementsFor(() -> leaderboardService.getLeaderboard(quiz.getId(), 5));
+        long large = QueryCounter.statementsFor(() -> leaderboardService.getLeaderboard(quiz.getId(), 50));
+        long all = QueryCounter.statementsFor(() -> leaderboardService.getLeaderboard(quiz.getId(), null));
+
+        // Assert - leaderboard page and total count; the quiz title comes from the catalog
+        assertEquals(2, small);
+        assertEquals(small, large);
+        assertEquals(small, all);
+    }
+
+    @Test
+    void getLeaderboard_WithOffset_AddsOnlyRankQuery() {
+        // Act
+        LeaderboardResponse[] response = new LeaderboardResponse[1];
+        long statements = QueryCounter.statementsFor(() -> response[0] = leaderboardService.getLeaderboard(quiz.getId(), 20, 30));
+
+        // Assert - plus one count for the first row's rank
+        assertEquals(3, statements);
+        assertEquals(30, response[0].getLeaderboard().size());
+        assertEquals(USERS, response[0].getTotalAttempts());
+        assertNotNull(response[0].getLeaderboard().get(0).getUserName());
+    }
+
+    @Test
+    void getLeaderboardAround_StatementCountIndependentOfPosition() {
+        // Arrange - scores cycle i % 11, so user 10 ranks first and user 55 last
+        List<LeaderboardEntry> full = leaderboardService.getLeaderboard(quiz.getId(), null).getLeaderboard();
+
+        // Act
+        LeaderboardResponse[] top = new LeaderboardResponse[1];
+        LeaderboardResponse[] bottom = new LeaderboardResponse[1];
+        long nearTop = QueryCounter.statementsFor(() -> top[0] = leaderboardService.getLeaderboardAround(quiz.getId(), users.get(10).getId(), 3));
+        long nearBottom = QueryCounter.statementsFor(() -> bottom[0] = leaderboardService.getLeaderboardAround(quiz.getId(), users.get(55).getId(), 3));
+        long alone = QueryCounter.statementsFor(() -> leaderboardService.getLeaderboardAround(quiz.getId(), users.get(55).getId(), 0));
+
+        // Assert - user row, rows above, rows below, rank, position, total; radius 0 skips the middle three
+        assertEquals(6, nearTop);
+        assertEquals(nearTop, nearBottom);
+        assertEquals(3, alone);
+        assertEquals(window(full, users.get(10).getId(), 3), top[0].getLeaderboard());
+        assertEquals(window(full, users.get(55).getId(), 3), bottom[0].getLeaderboard());
+    }
+
+    @Test
+    void submitQuiz_AtMostThreeStatements() {
+        // Arrange
+        authenticate(users.get(0));
+        QuizSubmitRequest first = submission(1);
+        QuizSubmitRequest better = submission(10);
+
+        // Act - a new best_attempts row, then an improved one
+        QuizSubmitResponse[] response = new QuizSubmitResponse[1];
+        long insertBest = QueryCounter.statementsFor(() -> response[0] = attemptService.submitQuiz(first));
+        long updateBest = QueryCounter.statementsFor(() -> attemptService.submitQuiz(better));
+
+        // Assert - attempt insert, best_attempts lookup, best_attempts insert or update
+        assertTrue(insertBest <= 3, "submitQuiz issued " + insertBest + " statements");
+        assertTrue(updateBest <= 3, "submitQuiz issued " + updateBest + " statements");
+        assertNotNull(response[0].getAttemptId());
+        assertEquals(1, response[0].getScore());
+    }
+
+    @Test
+    void getUserAttempts_StatementCountIndependentOfAttemptCount() {
+        // Arrange
+        User light = users.get(1);
+        User heavy = users.get(2);
+        recordAttempts(light, 3);
+        recordAttempts(heavy, 120);
+
+        // Act
+        authenticate(light);
+        long lightStatements = QueryCounter.statementsFor(() -> attemptService.getUserAttempts(null, 20));
+        authenticate(heavy);
+        AttemptHistoryPage[] firstPage = new AttemptHistoryPage[1];
+        long heavyStatements = QueryCounter.statementsFor(() -> firstPage[0] = attemptService.getUserAttempts(null, 100));
+        long nextPageStatements = QueryCounter.statementsFor(() -> attemptService.getUserAttempts(firstPage[0].getNextCursor(), 100));
+
+        // Assert - one keyset query per page, whatever the history size
+        assertEquals(1, lightStatements);
+        assertEquals(1, heavyStatements);
+        assertEquals(1, nextPageStatements);
+        assertEquals(100, firstPage[0].getAttempts().size());
+        assertNotNull(firstPage[0].getAttempts().get(0).getQuizTitle());
+    }
+
+    private static List<LeaderboardEntry> window(List<LeaderboardEntry> full, Long userId, int radius) {
+        int index = 0;
+        while (!full.get(index).getUserId().equals(userId)) {
+            index++;
+        }
+        return full.subList(Math.max(index - radius, 0), Math.min(index + radius + 1, full.size()));
+    }
+
+    private QuizSubmitRequest submission(int correct) {
+        Map<Long, String> answers = new LinkedHashMap<>();
+        for (int i = 0; i < questions.size(); i++) {
+            answers.put(questions.get(i).getId(), i < correct ? "A" : "B");
+        }
+        return new QuizSubmitRequest(quiz.getId(), answers);
+    }
+
+    private void recordAttempts(User user, int count) {
+        LocalDateTime start = LocalDateTime.of(2025, 2, 1, 9, 0);
+        List<Attempt> attempts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            attempts.add(Attempt.builder()
+                    .user(user)
+                    .quiz(quiz)
+                    .score(i % 11)
+                    .completedAt(start.plusMinutes(i))
+                    .build());
+        }
+        attemptRepository.saveAll(attempts);
+    }
+
+    private static void authenticate(User user) {
+        AuthenticatedUser principal = new AuthenticatedUser(user.getId(), user.getEmail(), user.getName());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+}
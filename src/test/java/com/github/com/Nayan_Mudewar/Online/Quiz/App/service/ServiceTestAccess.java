@@ -0,0 +1,26 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.service;
+
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.LeaderboardEntry;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuestionDto;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.entity.Question;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.repository.projection.LeaderboardRow;
+
+import java.util.List;
+
+/**
+ * Test-side bridge to package-private service helpers, so the JMH benchmarks can stay together
+ * in the benchmark package without widening the production API.
+ */
+public final class ServiceTestAccess {
+
+    private ServiceTestAccess() {
+    }
+
+    public static QuestionDto convertToQuestionDto(QuestionBankCache questionBankCache, Question question) {
+        return questionBankCache.convertToQuestionDto(question);
+    }
+
+    public static List<LeaderboardEntry> rank(List<LeaderboardRow> rows, int firstRank, int firstPosition) {
+        return LeaderboardService.rank(rows, firstRank, firstPosition);
+    }
+}
@@ -0,0 +1,95 @@
+package com.github.com.Nayan_Mudewar.Online.Quiz.App.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuestionDto;
+import com.github.com.Nayan_Mudewar.Online.Quiz.App.dto.QuizStartResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StartPayloadTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private List<QuestionDto> questions;
+    private StartPayload payload;
+
+    @BeforeEach
+    void setUp() {
+        questions = new ArrayList<>();
+        for (int i = 1; i <= 30; i++) {
+            questions.add(QuestionDto.builder()
+                    .id((long) i)
+                    .question("Question " + i + " — with \"quotes\" and ünïcode")
+                    .options(List.of("Alpha " + i, "Beta " + i, "Gamma " + i, "Delta " + i))
+                    .build());
+        }
+        payload = StartPayload.render(objectMapper, 7L, "Quiz \"Seven\"", "General", questions);
+    }
+
+    @Test
+    void writeJson_MatchesSerializedResponse() throws Exception {
+        // Arrange
+        int[] indices = {29, 0, 14, 3, 8, 21, 5, 11, 17, 26};
+        StartPayload.Selection selection = payload.select(indices);
+
+        // Act
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        selection.writeJson(out);
+
+        // Assert
+        List<QuestionDto> sampled = new ArrayList<>();
+        for (int index : indices) {
+            sampled.add(questions.get(index));
+        }
+        byte[] expected = objectMapper.writeValueAsBytes(QuizStartResponse.builder()
+                .quizId(7L)
+                .title("Quiz \"Seven\"")
+                .category("General")
+                .questions(sampled)
+                .build());
+        assertArrayEquals(expected, out.toByteArray());
+        assertEquals(expected.length, selection.jsonLength());
+    }
+
+    @Test
+    void writeGzip_DecompressesToJson() throws Exception {
+        // Arrange
+        StartPayload.Selection selection = payload.select(new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10});
+        ByteArrayOutputStream json = new ByteArrayOutputStream();
+        selection.writeJson(json);
+
+        // Act
+        ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+        selection.writeGzip(gzip);
+
+        // Assert - GZIPInputStream checks the CRC32 and length trailer
+        byte[] inflated;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip.toByteArray()))) {
+            inflated = in.readAllBytes();
+        }
+        assertArrayEquals(json.toByteArray(), inflated);
+        assertEquals(gzip.size(), selection.gzipLength());
+    }
+
+    @Test
+    void writeGzip_EmptySelection_IsValidStream() throws Exception {
+        // Act
+        ByteArrayOutputStream gzip = new ByteArrayOutputStream();
+        payload.select(new int[0]).writeGzip(gzip);
+
+        // Assert
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip.toByteArray()))) {
+            assertEquals("{\"quizId\":7,\"title\":\"Quiz \\\"Seven\\\"\",\"category\":\"General\",\"questions\":[]}",
+                    new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+}